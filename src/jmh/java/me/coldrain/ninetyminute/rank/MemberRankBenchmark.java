@@ -0,0 +1,108 @@
+package me.coldrain.ninetyminute.rank;
+
+import me.coldrain.ninetyminute.dto.response.RankerMemberResponse;
+import me.coldrain.ninetyminute.entity.Member;
+import me.coldrain.ninetyminute.event.MemberChangedEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 개인 랭킹 (RankService.memberRankGet / myRankGet) 경로 벤치마크.
+ * legacy* 는 리더보드 도입 전의 전체 정렬 + 선형 탐색 방식이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberRankBenchmark {
+
+    private static final int RANKER_SIZE = 10;
+
+    @Param({"1000", "10000", "100000"})
+    private int memberCount;
+
+    private List<Member> members;
+    private List<MemberRankEntry> entries;
+    private MemberLeaderboard leaderboard;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        members = RankFixtures.members(memberCount, 42L);
+        entries = new ArrayList<>(members.size());
+        members.forEach(member -> entries.add(MemberRankEntry.of(member)));
+        leaderboard = new MemberLeaderboard(RankFixtures.memberRepository(members));
+        leaderboard.load();
+    }
+
+    @Benchmark
+    public List<RankerMemberResponse> leaderboardPositionTop() {
+        return leaderboard.top(RankDimension.STRIKER, RANKER_SIZE);
+    }
+
+    @Benchmark
+    public List<RankerMemberResponse> leaderboardMvpTop() {
+        return leaderboard.top(RankDimension.MVP, RANKER_SIZE);
+    }
+
+    @Benchmark
+    public Integer leaderboardMyRank() {
+        final MemberRankEntry me = randomEntry();
+        return leaderboard.rankOf(RankDimension.ofPosition(me.getPosition()), me.getMemberId());
+    }
+
+    @Benchmark
+    public void leaderboardUpdate() {
+        final Member member = members.get(ThreadLocalRandom.current().nextInt(members.size()));
+        leaderboard.onMemberChanged(MemberChangedEvent.of(member));
+    }
+
+    @Benchmark
+    public List<RankerMemberResponse> legacyPositionTop() {
+        final List<MemberRankEntry> sorted = sortedBy(RankDimension.STRIKER);
+        final List<RankerMemberResponse> rankers = new ArrayList<>();
+        int rank = 1;
+        for (int i = 0; i < sorted.size() && rankers.size() < RANKER_SIZE; i++) {
+            final int point = RankDimension.STRIKER.pointOf(sorted.get(i));
+            if (i > 0 && point != RankDimension.STRIKER.pointOf(sorted.get(i - 1))) {
+                rank++;
+            }
+            final MemberRankEntry entry = sorted.get(i);
+            rankers.add(new RankerMemberResponse(entry.getMemberId(), entry.getProfileUrl(), entry.getNickname(),
+                    entry.getPosition(), RankDimension.MVP.pointOf(entry), point, rank));
+        }
+        return rankers;
+    }
+
+    @Benchmark
+    public int legacyMyRank() {
+        final MemberRankEntry me = randomEntry();
+        final RankDimension position = RankDimension.ofPosition(me.getPosition());
+        final List<MemberRankEntry> sorted = sortedBy(position);
+        int rank = 1;
+        for (int i = 0; i < sorted.size() - 1 && !sorted.get(i).getMemberId().equals(me.getMemberId()); i++) {
+            if (position.pointOf(sorted.get(i)) != position.pointOf(sorted.get(i + 1))) {
+                rank++;
+            }
+        }
+        return rank;
+    }
+
+    private List<MemberRankEntry> sortedBy(RankDimension dimension) {
+        final List<MemberRankEntry> sorted = new ArrayList<>();
+        for (MemberRankEntry entry : entries) {
+            if (dimension.accepts(entry)) {
+                sorted.add(entry);
+            }
+        }
+        sorted.sort(Comparator.comparingInt(dimension::pointOf).reversed());
+        return sorted;
+    }
+
+    private MemberRankEntry randomEntry() {
+        return entries.get(ThreadLocalRandom.current().nextInt(entries.size()));
+    }
+}
@@ -0,0 +1,112 @@
+package me.coldrain.ninetyminute.rank;
+
+import me.coldrain.ninetyminute.entity.Ability;
+import me.coldrain.ninetyminute.entity.Member;
+import me.coldrain.ninetyminute.entity.MemberRoleEnum;
+import me.coldrain.ninetyminute.entity.Record;
+import me.coldrain.ninetyminute.entity.Team;
+import me.coldrain.ninetyminute.repository.MemberRepository;
+import me.coldrain.ninetyminute.repository.TeamRepository;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 데이터와 메모리 fake 리포지토리.
+ * 같은 seed 로 만들기 때문에 실행마다 데이터 분포가 같다.
+ */
+final class RankFixtures {
+
+    static final String[] AREAS = {"서울", "경기", "인천", "부산", "대구", "광주", "대전", "울산"};
+    static final String[] POSITIONS = {"striker", "midfielder", "defender", "goalkeeper"};
+
+    private RankFixtures() {
+    }
+
+    static List<Team> teams(int size, long seed) {
+        final Random random = new Random(seed);
+        final List<Team> teams = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            final int total = random.nextInt(60);
+            final int win = total == 0 ? 0 : random.nextInt(total + 1);
+            final Record record = Record.builder()
+                    .totalGameCount(total)
+                    .winCount(win)
+                    .loseCount(total - win)
+                    .drawCount(0)
+                    .winRate(total == 0 ? 0.0 : win * 100.0 / total)
+                    .winPoint(win * 3)
+                    .build();
+            set(record, "id", (long) i);
+            final Team team = Team.builder()
+                    .name("team" + i)
+                    .mainArea(AREAS[random.nextInt(AREAS.length)])
+                    .teamProfileUrl("https://img/" + i)
+                    .record(record)
+                    .build();
+            set(team, "id", (long) i);
+            teams.add(team);
+        }
+        return teams;
+    }
+
+    static List<Member> members(int size, long seed) {
+        final Random random = new Random(seed);
+        final List<Member> members = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            final Ability ability = new Ability(random.nextInt(100), random.nextInt(100), random.nextInt(100),
+                    random.nextInt(100), random.nextInt(50), random.nextInt(50));
+            final Member member = new Member("user" + i, "password", MemberRoleEnum.USER, null);
+            set(member, "id", (long) i);
+            set(member, "nickname", "nick" + i);
+            set(member, "position", POSITIONS[random.nextInt(POSITIONS.length)]);
+            set(member, "ability", ability);
+            members.add(member);
+        }
+        return members;
+    }
+
+    static TeamRepository teamRepository(List<Team> teams) {
+        return fake(TeamRepository.class, "findAllWithRecord", teams);
+    }
+
+    static MemberRepository memberRepository(List<Member> members) {
+        return fake(MemberRepository.class, "findAllWithAbility", members);
+    }
+
+    // 리더보드 적재에 쓰이는 메서드 하나만 응답하는 리포지토리
+    private static <R> R fake(Class<R> type, String method, List<?> result) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, m, args) -> {
+            if (m.getName().equals(method)) {
+                return result;
+            }
+            if (m.getDeclaringClass() == Object.class) {
+                return m.getName().equals("equals") ? proxy == args[0]
+                        : m.getName().equals("hashCode") ? System.identityHashCode(proxy) : type.getSimpleName();
+            }
+            throw new UnsupportedOperationException(m.getName());
+        }));
+    }
+
+    static void set(Object target, String name, Object value) {
+        try {
+            Class<?> type = target.getClass();
+            while (type != null) {
+                try {
+                    final Field field = type.getDeclaredField(name);
+                    field.setAccessible(true);
+                    field.set(target, value);
+                    return;
+                } catch (NoSuchFieldException e) {
+                    type = type.getSuperclass();
+                }
+            }
+            throw new IllegalArgumentException(name);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package me.coldrain.ninetyminute.rank;
+
+import me.coldrain.ninetyminute.dto.response.RankerTeamResponse;
+import me.coldrain.ninetyminute.entity.Record;
+import me.coldrain.ninetyminute.entity.Team;
+import me.coldrain.ninetyminute.event.TeamChangedEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 팀 랭킹 (RankService.teamRankGet / myTeamRankGet) 경로 벤치마크.
+ * legacy* 는 리더보드 도입 전의 전체 정렬 + 선형 탐색 방식이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TeamRankBenchmark {
+
+    private static final int RANKER_SIZE = 10;
+
+    @Param({"1000", "10000", "100000"})
+    private int teamCount;
+
+    private List<Team> teams;
+    private List<Record> records;
+    private TeamLeaderboard leaderboard;
+    private List<Long> myTeamIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        teams = RankFixtures.teams(teamCount, 42L);
+        records = new ArrayList<>(teams.size());
+        teams.forEach(team -> records.add(team.getRecord()));
+        leaderboard = new TeamLeaderboard(RankFixtures.teamRepository(teams));
+        leaderboard.load();
+        myTeamIds = List.of(1L, (long) teamCount / 4, (long) teamCount / 2, (long) teamCount);
+    }
+
+    @Benchmark
+    public List<RankerTeamResponse> leaderboardTop() {
+        return leaderboard.top(RANKER_SIZE);
+    }
+
+    @Benchmark
+    public List<RankerTeamResponse> leaderboardAreaTop() {
+        return leaderboard.top(RankFixtures.AREAS[0], RANKER_SIZE);
+    }
+
+    @Benchmark
+    public Map<Long, Integer> leaderboardRanksOf() {
+        return leaderboard.ranksOf(myTeamIds);
+    }
+
+    @Benchmark
+    public void leaderboardUpdate() {
+        final Team team = teams.get(ThreadLocalRandom.current().nextInt(teams.size()));
+        leaderboard.onTeamChanged(TeamChangedEvent.of(team));
+    }
+
+    @Benchmark
+    public List<RankerTeamResponse> legacyTop() {
+        final List<Record> sorted = new ArrayList<>(records);
+        sorted.sort(Comparator.comparing(Record::getWinPoint).reversed()
+                .thenComparing(Comparator.comparing(Record::getWinRate).reversed()));
+        final List<RankerTeamResponse> rankers = new ArrayList<>();
+        int rank = 1;
+        for (int i = 0; i < sorted.size() && rankers.size() < RANKER_SIZE; i++) {
+            if (i > 0 && (!sorted.get(i).getWinPoint().equals(sorted.get(i - 1).getWinPoint())
+                    || !sorted.get(i).getWinRate().equals(sorted.get(i - 1).getWinRate()))) {
+                rank++;
+            }
+            final Team team = teams.get((int) (sorted.get(i).getId() - 1));
+            rankers.add(new RankerTeamResponse(team.getId(), team.getTeamProfileUrl(), team.getName(),
+                    sorted.get(i).getWinPoint(), rank));
+        }
+        return rankers;
+    }
+
+    @Benchmark
+    public Map<Long, Integer> legacyRanksOf() {
+        final List<Record> sorted = new ArrayList<>(records);
+        sorted.sort(Comparator.comparing(Record::getWinPoint).reversed()
+                .thenComparing(Comparator.comparing(Record::getWinRate).reversed()));
+        final Map<Long, Integer> ranks = new HashMap<>();
+        for (Long teamId : myTeamIds) {
+            int rank = 1;
+            for (int i = 0; i < sorted.size() - 1 && !sorted.get(i).getId().equals(teamId); i++) {
+                if (!sorted.get(i).getWinPoint().equals(sorted.get(i + 1).getWinPoint())
+                        || !sorted.get(i).getWinRate().equals(sorted.get(i + 1).getWinRate())) {
+                    rank++;
+                }
+            }
+            ranks.put(teamId, rank);
+        }
+        return ranks;
+    }
+}
@@ -0,0 +1,102 @@
+package me.coldrain.ninetyminute.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import me.coldrain.ninetyminute.dto.TeamDetail;
+import me.coldrain.ninetyminute.event.TeamChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 팀 상세 화면 중 조회자와 무관한 부분(TeamDetail)을 팀 단위로 캐시한다.
+ * 팀마다 버전을 두고 캐시 항목에 조회 시작 시점의 버전을 함께 저장한다.
+ * 팀 정보, 전적, 팀원 수, 최근 경기가 바뀌면(TeamChangedEvent) 버전을 올리므로,
+ * 변경 전에 시작된 조회가 뒤늦게 저장한 항목은 버전이 맞지 않아 사용되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamDetailCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${team.detail.cache.max-size:1000}")
+    private long maxSize;
+
+    // 이벤트 없이 바뀐 값(배치 보정 등)이 오래 남지 않도록 하는 안전장치
+    @Value("${team.detail.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    private Cache<Long, Entry> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "teamDetail");
+    }
+
+    /**
+     * 현재 버전의 항목이 있으면 그대로, 없으면 loader 로 조회해서 저장한다.
+     * 버전은 loader 의 첫 쿼리보다 먼저 읽어야 하므로 트랜잭션에서 가장 먼저 호출한다.
+     * 팀이 없어서 loader 가 null 을 돌려주면 캐시하지 않고 null
+     */
+    public TeamDetail get(Long teamId, Function<Long, TeamDetail> loader) {
+        final long version = versionOf(teamId);
+        final Entry cached = cache.getIfPresent(teamId);
+        if (cached != null && cached.version == version) {
+            return cached.detail;
+        }
+        final TeamDetail detail = loader.apply(teamId);
+        if (detail != null && versionOf(teamId) == version) {
+            cache.put(teamId, new Entry(version, detail));
+        }
+        return detail;
+    }
+
+    // 커밋 직전에 올려서 커밋 중에 이전 항목이 조회되지 않게 한다
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void beforeTeamCommit(TeamChangedEvent event) {
+        bump(event.getTeamId());
+    }
+
+    // 커밋 전 DB 를 읽고 저장된 항목은 커밋 후 다시 올려서 버린다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        bump(event.getTeamId());
+    }
+
+    private long versionOf(Long teamId) {
+        return versions.getOrDefault(teamId, 0L);
+    }
+
+    private void bump(Long teamId) {
+        versions.merge(teamId, 1L, Long::sum);
+        cache.invalidate(teamId);
+    }
+
+    private static final class Entry {
+        private final long version;
+        private final TeamDetail detail;
+
+        private Entry(long version, TeamDetail detail) {
+            this.version = version;
+            this.detail = detail;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package me.coldrain.ninetyminute.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import me.coldrain.ninetyminute.dto.TeamListSearch;
+import me.coldrain.ninetyminute.dto.TeamListSearchCondition;
+import me.coldrain.ninetyminute.event.TeamChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 팀 목록 조회 결과 캐시. 검색 조건(요일/시간대는 정렬) + 페이지(cursor) 를 키로 사용한다.
+ * 팀 목록은 조회자와 무관하므로 모든 요청이 같은 캐시를 공유하고,
+ * 어떤 팀이든 바뀌면(TeamChangedEvent) 결과 전체가 달라질 수 있어 세대(generation)를 올려 한 번에 무효화한다.
+ * 최대 크기(team.list.cache.max-size)를 넘으면 Caffeine 의 W-TinyLFU 정책으로 자주 쓰이지 않는 조건부터 제거된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamListCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${team.list.cache.max-size:1000}")
+    private long maxSize;
+
+    @Value("${team.list.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // 무효화 시 증가, 무효화 이전에 시작된 조회 결과가 새 세대 키로 저장되지 않도록 키에 포함한다
+    private final AtomicLong generation = new AtomicLong();
+
+    private Cache<Key, Slice<TeamListSearch>> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "teamList");
+    }
+
+    public Slice<TeamListSearch> get(TeamListSearchCondition condition, Pageable pageable, Supplier<Slice<TeamListSearch>> loader) {
+        return cache.get(Key.of(generation.get(), condition, pageable), key -> loader.get());
+    }
+
+    // 검색 색인, 랭킹 등 다른 리스너가 먼저 반영된 뒤 무효화되도록 가장 나중에 실행
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @ToString
+    @EqualsAndHashCode
+    private static final class Key {
+        private final long generation;
+        private final String address;
+        private final String input;
+        private final List<String> weekdays;
+        private final List<String> time;
+        private final String winRate;
+        private final Boolean recruit;
+        private final Boolean match;
+        private final Boolean deleted;
+        private final Boolean relevance;
+        private final Double latitude;
+        private final Double longitude;
+        private final Double radius;
+        private final String cursor;
+        private final int page;
+        private final int size;
+        private final String sort;
+
+        private Key(long generation, TeamListSearchCondition condition, Pageable pageable) {
+            this.generation = generation;
+            this.address = condition.getAddress();
+            this.input = condition.getInput();
+            this.weekdays = sorted(condition.getWeekdays());
+            this.time = sorted(condition.getTime());
+            this.winRate = condition.getWinRate();
+            this.recruit = condition.getRecruit();
+            this.match = condition.getMatch();
+            this.deleted = condition.getDeleted();
+            this.relevance = condition.getRelevance();
+            this.latitude = condition.getLatitude();
+            this.longitude = condition.getLongitude();
+            this.radius = condition.getRadius();
+            this.cursor = condition.getCursor();
+            this.page = pageable.isPaged() ? pageable.getPageNumber() : -1;
+            this.size = pageable.isPaged() ? pageable.getPageSize() : -1;
+            this.sort = pageable.getSort().toString();
+        }
+
+        private static Key of(long generation, TeamListSearchCondition condition, Pageable pageable) {
+            return new Key(generation, condition, pageable);
+        }
+
+        // 요일/시간대는 순서와 무관한 조건이므로 정렬해서 같은 키가 되게 한다
+        private static List<String> sorted(List<String> values) {
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            final List<String> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package me.coldrain.ninetyminute.config;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+import java.util.List;
+
+/**
+ * JPQL/QueryDSL 에서 function('bitand', a, b) 로 쓰는 비트 AND.
+ * MariaDB 는 a & b 연산자, H2 는 BITAND(a, b) 함수로 렌더링한다.
+ */
+public class BitAndFunction implements SQLFunction {
+
+    public static final String NAME = "bitand";
+
+    @Override
+    public boolean hasArguments() {
+        return true;
+    }
+
+    @Override
+    public boolean hasParenthesesIfNoArguments() {
+        return true;
+    }
+
+    @Override
+    public Type getReturnType(Type firstArgumentType, Mapping mapping) throws QueryException {
+        return StandardBasicTypes.INTEGER;
+    }
+
+    @Override
+    public String render(Type firstArgumentType, List arguments, SessionFactoryImplementor factory) throws QueryException {
+        if (arguments.size() != 2) {
+            throw new QueryException("bitand() 는 인자 2개가 필요합니다.");
+        }
+        if (factory.getJdbcServices().getDialect() instanceof H2Dialect) {
+            return "bitand(" + arguments.get(0) + ", " + arguments.get(1) + ")";
+        }
+        return "(" + arguments.get(0) + " & " + arguments.get(1) + ")";
+    }
+}
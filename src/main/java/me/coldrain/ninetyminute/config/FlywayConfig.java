@@ -0,0 +1,25 @@
+package me.coldrain.ninetyminute.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    // 테이블은 JPA 가 만들기 때문에 기동 시점에는 마이그레이션하지 않고 FlywayMigrationRunner 에서 실행
+    @Bean
+    public FlywayMigrationStrategy deferredMigrationStrategy() {
+        return flyway -> {
+        };
+    }
+
+    // 이미 운영 중인 스키마에는 이력 테이블이 없으므로 버전 0 으로 기준선을 잡고 V1 부터 적용
+    @Bean
+    public FlywayConfigurationCustomizer baselineCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+    }
+}
@@ -0,0 +1,31 @@
+package me.coldrain.ninetyminute.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA 가 테이블을 만든 뒤 db/migration 의 인덱스/백필 마이그레이션을 적용한다.
+ * 모든 싱글톤(EntityManagerFactory 포함)이 만들어진 직후, 웹 서버가 요청을 받기 전에 실행되므로
+ * 요청은 항상 백필이 끝난 스키마를 본다. spring.flyway.enabled=false 면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FlywayMigrationRunner implements SmartInitializingSingleton {
+
+    private final ObjectProvider<Flyway> flywayProvider;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        flywayProvider.ifAvailable(flyway -> {
+            final int applied = flyway.migrate().migrationsExecuted;
+            if (applied > 0) {
+                log.info("Schema migrations applied. migrations = {}", applied);
+            }
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package me.coldrain.ninetyminute.config;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.jpa.boot.spi.MetadataBuilderContributor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateConfig {
+
+    // JPQL 에서 사용할 커스텀 SQL 함수 등록
+    @Bean
+    public HibernatePropertiesCustomizer sqlFunctionCustomizer() {
+        return properties -> properties.put("hibernate.metadata_builder_contributor",
+                (MetadataBuilderContributor) HibernateConfig::contribute);
+    }
+
+    private static void contribute(MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(BitAndFunction.NAME, new BitAndFunction());
+    }
+}
@@ -0,0 +1,29 @@
+package me.coldrain.ninetyminute.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    // 쉼표로 구분한 허용 origin 목록
+    @Value("${websocket.allowed-origins:https://fe-90bun.vercel.app,https://www.ninety.site,https://localhost:3000,http://localhost:3000}")
+    private String[] allowedOrigins;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOrigins(allowedOrigins);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        // 랭킹 변동 등 서버 -> 클라이언트 push 용 구독 경로
+        registry.enableSimpleBroker("/topic");
+    }
+}
@@ -10,6 +10,7 @@ import me.coldrain.ninetyminute.dto.request.MatchMemberRequest;
 import me.coldrain.ninetyminute.dto.response.*;
 import me.coldrain.ninetyminute.security.UserDetailsImpl;
 import me.coldrain.ninetyminute.service.MatchingService;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -38,6 +39,21 @@ public class MatchingController {
         return matchingService.searchOfferMatches(teamId, userDetails.getUser());
     }
 
+    /*
+     * 대결 요청 목록 페이지 조회 API
+     * 최신순 size 개(기본 20, 최대 50)씩, 다음 페이지는 응답의 nextCursor 를 cursor 로 전달.
+     */
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/teams/{team_id}/matches/offer/page")
+    public Slice<OfferMatchResponse> searchOfferMatchPage(
+            final @PathVariable("team_id") Long teamId,
+            final @RequestParam(value = "cursor", required = false) String cursor,
+            final @RequestParam(value = "size", required = false) Integer size,
+            final @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        return matchingService.searchOfferMatchPage(teamId, userDetails.getUser(), cursor, size);
+    }
+
     /*
      * Author: 병민
      * 대결 수락 정보 저장 API
@@ -80,6 +96,20 @@ public class MatchingController {
         return matchingService.searchMyTeams(memberId, userDetails.getUser());
     }
 
+    /*
+     * 소속 팀 목록 페이지 조회 API
+     * 최근 가입순 size 개(기본 20, 최대 50)씩, 다음 페이지는 응답의 nextCursor 를 cursor 로 전달.
+     */
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/members/{member_id}/matches/page")
+    public Slice<ParticipationTeamMatchResponse> searchMyTeamPage(
+            final @PathVariable("member_id") Long memberId,
+            final @RequestParam(value = "cursor", required = false) String cursor,
+            final @RequestParam(value = "size", required = false) Integer size,
+            final @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return matchingService.searchMyTeamPage(memberId, userDetails.getUser(), cursor, size);
+    }
+
     /*
      * Author: 병민
      * 예정된 대결 목록 조회 API
@@ -93,6 +123,20 @@ public class MatchingController {
         return matchingService.searchMatches(teamId, userDetails.getUser());
     }
 
+    /*
+     * 예정된 대결 목록 페이지 조회 API
+     * 최근 신청순 size 개(기본 20, 최대 50)씩, 다음 페이지는 응답의 nextCursor 를 cursor 로 전달.
+     */
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/teams/{team_id}/matches/page")
+    public Slice<MatchResponse> searchApprovedMatchPage(
+            @PathVariable("team_id") Long teamId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return matchingService.searchMatchPage(teamId, userDetails.getUser(), cursor, size);
+    }
+
     /*
      * Author: 병민
      * 대결 성사 목록 상세 조회 API
@@ -15,10 +15,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class RankController {
     private final RankService rankService;
 
-    //팀 랭킹 조회
+    //팀 랭킹 조회 (area 를 주면 지역 랭킹)
     @GetMapping("/api/home/rank/teams")
-    public ResponseEntity<?> teamRankGet() {
-        return rankService.teamRankGet();
+    public ResponseEntity<?> teamRankGet(@RequestParam(value = "area", required = false) String area) {
+        return rankService.teamRankGet(area);
     }
 
     //개인 포지션 랭킹 조회
@@ -27,6 +27,27 @@ public class RankController {
         return rankService.memberRankGet(ability);
     }
 
+    //기간(월 단위) 팀 랭킹 조회
+    @GetMapping("/api/home/rank/season/teams")
+    public ResponseEntity<?> seasonTeamRankGet(@RequestParam(value = "from", required = false) String from,
+                                               @RequestParam(value = "to", required = false) String to) {
+        return rankService.seasonTeamRankGet(from, to);
+    }
+
+    //기간(월 단위) 개인 포지션 랭킹 조회
+    @GetMapping("/api/home/rank/season/members")
+    public ResponseEntity<?> seasonMemberRankGet(@RequestParam("ability") String ability,
+                                                 @RequestParam(value = "from", required = false) String from,
+                                                 @RequestParam(value = "to", required = false) String to) {
+        return rankService.seasonMemberRankGet(ability, from, to);
+    }
+
+    //랭킹 스냅샷 상태 조회
+    @GetMapping("/api/home/rank/snapshot")
+    public ResponseEntity<?> rankSnapshotGet() {
+        return rankService.rankSnapshotGet();
+    }
+
     //로그인 사용자 개인 랭킹
     @GetMapping("/api/home/rank/members/myranking")
     public ResponseEntity<?> myRankGet(@AuthenticationPrincipal UserDetailsImpl userDetails) {
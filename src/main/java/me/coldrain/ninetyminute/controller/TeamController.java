@@ -83,6 +83,19 @@ public class TeamController {
         return teamService.searchTeamList(searchCondition, pageable);
     }
 
+    /**
+     * 팀 이름 자동완성 API
+     * prefix 로 시작하는 팀 이름을 짧은 이름 순으로 최대 size 개(기본 10, 최대 20) 응답한다.
+     */
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/home/teams/autocomplete")
+    public List<TeamNameSuggestionResponse> autocompleteTeamName(
+            final @RequestParam("prefix") String prefix,
+            final @RequestParam(value = "size", required = false) Integer size) {
+
+        return teamService.suggestTeamNames(prefix, size);
+    }
+
     /**
      * Author: 상운
      * 팀 참여 질문 조회 API
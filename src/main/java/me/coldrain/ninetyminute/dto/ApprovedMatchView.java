@@ -0,0 +1,28 @@
+package me.coldrain.ninetyminute.dto;
+
+import java.time.LocalDateTime;
+
+// 예정된 대결 목록 한 행 (신청 + 조회한 팀 기준 상대 팀 정보)
+public interface ApprovedMatchView {
+    Long getApplyId();
+
+    LocalDateTime getCreatedDate();
+
+    Long getOpposingTeamId();
+
+    String getOpposingTeamName();
+
+    Integer getOpposingTeamMemberCount();
+
+    Integer getOpposingTeamPoint();
+
+    Integer getOpposingTeamTotalGameCount();
+
+    Double getOpposingTeamWinRate();
+
+    Integer getOpposingTeamWinCount();
+
+    Integer getOpposingTeamDrawCount();
+
+    Integer getOpposingTeamLoseCount();
+}
@@ -0,0 +1,47 @@
+package me.coldrain.ninetyminute.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 대결 신청/예정 대결/소속 팀 목록 keyset 페이지네이션 cursor.
+ * 세 목록 모두 (날짜 desc, id desc) 순서이므로 마지막 행의 (날짜, id) 를 Base64 문자열 하나로 주고받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class MatchListCursor {
+
+    private static final String DELIMITER = "|";
+
+    // 첫 페이지는 모든 행보다 뒤의 값을 기준으로 조회한다
+    private static final MatchListCursor FIRST = new MatchListCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime date;
+    private final Long id;
+
+    public String encode() {
+        final String raw = String.join(DELIMITER, date.toString(), id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // cursor 가 없으면 첫 페이지, 형식이 잘못된 cursor 는 거부
+    public static MatchListCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new MatchListCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package me.coldrain.ninetyminute.dto;
+
+import java.time.LocalDateTime;
+
+// 소속 팀 목록 한 행 (참여 + 팀 전적)
+public interface MyTeamView {
+    Long getParticipationId();
+
+    Long getTeamId();
+
+    String getTeamName();
+
+    Integer getTeamMemberCount();
+
+    Integer getTeamPoint();
+
+    Double getTeamWinRate();
+
+    Integer getTeamTotalGameCount();
+
+    Integer getTeamWinCount();
+
+    Integer getTeamDrawCount();
+
+    Integer getTeamLoseCount();
+
+    String getMainArea();
+
+    LocalDateTime getCreatedDate();
+
+    LocalDateTime getModifiedDate();
+}
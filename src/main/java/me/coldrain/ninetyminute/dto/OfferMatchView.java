@@ -0,0 +1,22 @@
+package me.coldrain.ninetyminute.dto;
+
+import java.time.LocalDateTime;
+
+// 받은 대결 신청 목록 한 행 (신청 + 신청 팀 전적)
+public interface OfferMatchView {
+    Long getApplyId();
+
+    Long getOpposingTeamId();
+
+    String getOpposingTeamName();
+
+    Integer getOpposingTeamPoint();
+
+    Double getWinRate();
+
+    String getGreeting();
+
+    LocalDateTime getCreatedDate();
+
+    LocalDateTime getModifiedDate();
+}
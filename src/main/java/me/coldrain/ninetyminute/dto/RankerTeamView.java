@@ -0,0 +1,14 @@
+package me.coldrain.ninetyminute.dto;
+
+// 팀 랭킹 native 쿼리 결과 (DENSE_RANK 포함)
+public interface RankerTeamView {
+    Long getTeamId();
+
+    String getTeamProfileUrl();
+
+    String getTeamName();
+
+    Integer getWinPoint();
+
+    Integer getRanking();
+}
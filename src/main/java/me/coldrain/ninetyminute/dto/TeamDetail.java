@@ -0,0 +1,108 @@
+package me.coldrain.ninetyminute.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.coldrain.ninetyminute.dto.response.TeamInfoResponse;
+import me.coldrain.ninetyminute.entity.History;
+import me.coldrain.ninetyminute.entity.Record;
+import me.coldrain.ninetyminute.entity.Team;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 팀 상세 화면 중 조회자와 무관한 부분. TeamDetailCache 에 팀 단위로 캐시된다.
+ * 조회자별 값(개설자/승인/신청 여부)은 여기에 담지 않고 응답을 만들 때 따로 계산한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TeamDetail {
+
+    private final Long teamId;
+    private final String teamName;
+    private final String introduce;
+    private final String teamImageFileUrl;
+    private final boolean recruit;
+    private final boolean match;
+    private final int winPoint;
+    private final int totalGameCount;
+    private final int winCount;
+    private final int drawCount;
+    private final int loseCount;
+    private final double winRate;
+    private final String mainArea;
+    private final String preferredArea;
+    private final List<String> weekdays;
+    private final List<String> time;
+    private final int headCount;
+    private final RecentMatch recentMatch;
+    private final LocalDateTime createdDate;
+    private final LocalDateTime modifiedDate;
+
+    // team 은 record 가 함께 조회된 상태여야 한다. recentHistory 는 경기 기록이 없으면 null
+    public static TeamDetail of(Team team, List<String> weekdays, List<String> time, History recentHistory) {
+        final Record record = team.getRecord();
+        return new TeamDetail(
+                team.getId(),
+                team.getName(),
+                team.getIntroduce(),
+                team.getTeamProfileUrl(),
+                Boolean.TRUE.equals(team.getRecruit()),
+                Boolean.TRUE.equals(team.getMatches()),
+                record.getWinPoint(),
+                record.getTotalGameCount(),
+                record.getWinCount(),
+                record.getDrawCount(),
+                record.getLoseCount(),
+                record.getWinRate(),
+                team.getMainArea(),
+                team.getPreferredArea(),
+                List.copyOf(weekdays),
+                List.copyOf(time),
+                team.getApprovedMemberCount(),
+                recentHistory != null ? RecentMatch.of(recentHistory) : null,
+                team.getCreatedDate(),
+                team.getModifiedDate()
+        );
+    }
+
+    public TeamInfoResponse.RecentMatchHistory recentMatchHistory() {
+        return recentMatch != null ? recentMatch.toResponse() : null;
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class RecentMatch {
+        private final Long historyId;
+        private final String matchDate;
+        private final String teamName;
+        private final String teamResult;
+        private final int teamScore;
+        private final String opposingTeamName;
+        private final String opposingTeamResult;
+        private final int opposingTeamScore;
+
+        private static RecentMatch of(History history) {
+            return new RecentMatch(
+                    history.getId(),
+                    history.getBeforeMatching().calculatedDate(),
+                    history.getBeforeMatching().getTeamName(),
+                    history.getAfterMatching().getResult(),
+                    history.getAfterMatching().getScore(),
+                    history.getBeforeMatching().getOpposingTeamName(),
+                    history.getAfterMatching().getOpponentResult(),
+                    history.getAfterMatching().getOpponentScore()
+            );
+        }
+
+        private TeamInfoResponse.RecentMatchHistory toResponse() {
+            final TeamInfoResponse.RecentMatchHistory recentMatchHistory = new TeamInfoResponse.RecentMatchHistory();
+            recentMatchHistory.setHistoryId(historyId);
+            recentMatchHistory.setMatchDate(matchDate);
+            recentMatchHistory.setTeam(new TeamInfoResponse.RecentMatchHistory.Team(teamName, teamResult, teamScore));
+            recentMatchHistory.setOpposingTeam(new TeamInfoResponse.RecentMatchHistory.OpposingTeam(opposingTeamName, opposingTeamResult, opposingTeamScore));
+            return recentMatchHistory;
+        }
+    }
+}
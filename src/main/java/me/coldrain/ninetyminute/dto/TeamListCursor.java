@@ -0,0 +1,63 @@
+package me.coldrain.ninetyminute.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 팀 목록 keyset 페이지네이션 cursor.
+ * 정렬 기준(sort)과 마지막 행의 (winRate, createdDate, teamId) 를 Base64 문자열 하나로 주고받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class TeamListCursor {
+
+    public static final String SORT_LATEST = "latest";
+    public static final String SORT_WIN_RATE_DESC = "winRateDesc";
+    public static final String SORT_WIN_RATE_ASC = "winRateAsc";
+
+    // 승률이 비어 있는 팀은 승률 0 으로 정렬한다 (TeamQueryRepository 의 정렬 기준과 같아야 한다)
+    public static final double NO_WIN_RATE = 0.0;
+
+    private static final String DELIMITER = "|";
+
+    private final String sort;
+    private final Double winRate;
+    private final LocalDateTime createdDate;
+    private final Long teamId;
+
+    public static TeamListCursor of(String sort, TeamListSearch last) {
+        final Double winRate = last.getWinRate() != null ? last.getWinRate() : NO_WIN_RATE;
+        return new TeamListCursor(sort, winRate, last.getCreatedDate(), last.getTeamId());
+    }
+
+    public String encode() {
+        final String raw = String.join(DELIMITER, sort, String.valueOf(winRate), createdDate.toString(), teamId.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 다른 정렬 기준으로 만들어진 cursor, 승률 정렬인데 승률이 없는 cursor, 형식이 잘못된 cursor 는 거부
+    public static TeamListCursor decode(String cursor, String sort) {
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 4 || !parts[0].equals(sort)) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            final Double winRate = parts[1].equals("null") ? null : Double.valueOf(parts[1]);
+            if (!sort.equals(SORT_LATEST) && (winRate == null || !Double.isFinite(winRate))) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new TeamListCursor(
+                    parts[0],
+                    winRate,
+                    LocalDateTime.parse(parts[2]),
+                    Long.valueOf(parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -36,6 +36,9 @@ public class TeamListSearch {
     private LocalDateTime createdDate;
     private LocalDateTime modifiedDate;
 
+    // 반경 검색일 때 기준 위치로부터의 거리(km)
+    private Double distance;
+
     @QueryProjection
     public TeamListSearch(Long teamId, String teamName, Long headCount, String mainArea, String preferredArea, Double winRate, Boolean recruit, Boolean match, Integer totalGameCount, Integer winCount, Integer drawCount, Integer loseCount, LocalDateTime createdDate, LocalDateTime modifiedDate) {
         this.teamId = teamId;
@@ -23,6 +23,17 @@ public class TeamListSearchCondition {
     private Boolean match;
     private Boolean deleted;
 
+    // true 면 검색어(input) 관련도 순으로 정렬
+    private Boolean relevance;
+
+    // 위도/경도가 있으면 radius(km, 기본 10) 안의 팀을 가까운 순으로 조회
+    private Double latitude;
+    private Double longitude;
+    private Double radius;
+
+    // 이전 응답의 nextCursor, 있으면 offset 대신 keyset 으로 다음 페이지를 조회
+    private String cursor;
+
     public TeamListSearchCondition(String address, String input, List<String> weekdays, List<String> time, String winRate, Boolean recruit, Boolean match, Boolean deleted) {
         this.address = address;
         this.input = input;
@@ -14,4 +14,6 @@ public class ApprovedMatchRequest {
     private Date matchDate;
     private String meridiem;
     private String matchLocation;
+    private Double matchLatitude;
+    private Double matchLongitude;
 }
\ No newline at end of file
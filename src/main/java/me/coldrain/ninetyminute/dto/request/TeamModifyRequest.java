@@ -18,14 +18,18 @@ public class TeamModifyRequest {
     private String preferredArea;
     private List<String> weekdays;
     private List<String> time;
+    private Double latitude;
+    private Double longitude;
 
     @Builder
-    public TeamModifyRequest(MultipartFile teamImageFile, String introduce, String mainArea, String preferredArea, List<String> weekdays, List<String> time) {
+    public TeamModifyRequest(MultipartFile teamImageFile, String introduce, String mainArea, String preferredArea, List<String> weekdays, List<String> time, Double latitude, Double longitude) {
         this.teamImageFile = teamImageFile;
         this.introduce = introduce;
         this.mainArea = mainArea;
         this.preferredArea = preferredArea;
         this.weekdays = weekdays;
         this.time = time;
+        this.latitude = latitude;
+        this.longitude = longitude;
     }
 }
@@ -25,4 +25,8 @@ public class TeamRegisterRequest {
     private List<String> time;
 
     private String preferredArea;
+
+    private Double latitude;
+
+    private Double longitude;
 }
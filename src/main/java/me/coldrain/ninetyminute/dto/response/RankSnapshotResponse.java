@@ -0,0 +1,14 @@
+package me.coldrain.ninetyminute.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Getter
+public class RankSnapshotResponse {
+    private Long generation;
+    private LocalDateTime generatedAt;
+    private Long ageSeconds;
+}
@@ -0,0 +1,14 @@
+package me.coldrain.ninetyminute.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TeamNameSuggestionResponse {
+
+    private Long teamId;
+    private String teamName;
+}
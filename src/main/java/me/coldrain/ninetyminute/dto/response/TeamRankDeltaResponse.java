@@ -0,0 +1,15 @@
+package me.coldrain.ninetyminute.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class TeamRankDeltaResponse {
+    private Long teamId;
+    private String teamProfileUrl;
+    private String teamName;
+    private int winPoint;
+    private Integer previousRank; // 새로 진입한 팀이면 null
+    private Integer currentRank; // 순위권 밖으로 밀려난 팀이면 null
+}
@@ -0,0 +1,75 @@
+package me.coldrain.ninetyminute.entity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 팀 활동 요일/시간대를 Team.availability 정수 컬럼 하나에 담기 위한 비트 인코딩.
+ * 하위 7비트는 요일(MON ~ SUN), 그 위 비트는 시간대(am, pm) 이다.
+ * 요일과 시간대는 서로 독립된 목록이므로 요일 x 시간대 조합이 아니라 두 영역으로 나눠 담는다.
+ */
+public final class Availability {
+
+    public static final List<String> WEEKDAYS = List.of("MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN");
+    public static final List<String> TIMES = List.of("am", "pm");
+
+    // 인코딩할 수 없는 값이 포함된 조건
+    public static final int UNKNOWN = -1;
+
+    private static final int TIME_OFFSET = WEEKDAYS.size();
+
+    private Availability() {
+    }
+
+    public static int encode(Collection<String> weekdays, Collection<String> times) {
+        int bits = 0;
+        if (weekdays != null) {
+            for (String weekday : weekdays) {
+                bits |= weekdayBit(weekday);
+            }
+        }
+        if (times != null) {
+            for (String time : times) {
+                bits |= timeBit(time);
+            }
+        }
+        return bits;
+    }
+
+    // 검색 조건용 요일 마스크, 알 수 없는 요일이 있으면 UNKNOWN
+    public static int weekdayMask(Collection<String> weekdays) {
+        int mask = 0;
+        for (String weekday : weekdays) {
+            final int bit = weekdayBit(weekday);
+            if (bit == 0) {
+                return UNKNOWN;
+            }
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    // 검색 조건용 시간대 마스크, 알 수 없는 시간대가 있으면 UNKNOWN
+    public static int timeMask(Collection<String> times) {
+        int mask = 0;
+        for (String time : times) {
+            final int bit = timeBit(time);
+            if (bit == 0) {
+                return UNKNOWN;
+            }
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    private static int weekdayBit(String weekday) {
+        final int index = weekday != null ? WEEKDAYS.indexOf(weekday.toUpperCase(Locale.ROOT)) : -1;
+        return index >= 0 ? 1 << index : 0;
+    }
+
+    private static int timeBit(String time) {
+        final int index = time != null ? TIMES.indexOf(time.toLowerCase(Locale.ROOT)) : -1;
+        return index >= 0 ? 1 << (TIME_OFFSET + index) : 0;
+    }
+}
@@ -24,6 +24,8 @@ public class BeforeMatching extends TimeStamped {
 
     private Date matchDate;
     private String location;
+    private Double latitude;
+    private Double longitude;
     private String teamName;
     private String opposingTeamName;
 
@@ -48,10 +50,12 @@ public class BeforeMatching extends TimeStamped {
     }
 
     @Builder
-    public BeforeMatching(Apply apply, Date matchDate, String location, String teamName, String opposingTeamName) {
+    public BeforeMatching(Apply apply, Date matchDate, String location, Double latitude, Double longitude, String teamName, String opposingTeamName) {
         this.apply = apply;
         this.matchDate = matchDate;
         this.location = location;
+        this.latitude = latitude;
+        this.longitude = longitude;
         this.teamName = teamName;
         this.opposingTeamName = opposingTeamName;
     }
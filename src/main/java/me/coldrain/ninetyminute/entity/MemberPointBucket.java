@@ -0,0 +1,66 @@
+package me.coldrain.ninetyminute.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+// 개인 능력치 포인트의 월별 집계. 시즌/기간 랭킹은 이 행들의 합으로 계산한다.
+@Entity
+@Table(name = "member_point_bucket", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_member_point_bucket_member_period", columnNames = {"member_id", "period"})
+}, indexes = {
+        @Index(name = "idx_member_point_bucket_period", columnList = "period")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(exclude = "member")
+@Getter
+public class MemberPointBucket extends TimeStamped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "member_point_bucket_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    private String period; // yyyy-MM
+
+    private Integer strikerPoint = 0;
+    private Integer midfielderPoint = 0;
+    private Integer defenderPoint = 0;
+    private Integer goalkeeperPoint = 0;
+    private Integer mvpPoint = 0;
+    private Integer charmingPoint = 0;
+
+    public MemberPointBucket(Member member, String period) {
+        this.member = member;
+        this.period = period;
+    }
+
+    public void addPoint(String ability) {
+        switch (ability) {
+            case "striker":
+                this.strikerPoint += 1;
+                break;
+            case "midfielder":
+                this.midfielderPoint += 1;
+                break;
+            case "defender":
+                this.defenderPoint += 1;
+                break;
+            case "goalkeeper":
+                this.goalkeeperPoint += 1;
+                break;
+            case "mvp":
+                this.mvpPoint += 1;
+                break;
+            case "charming":
+                this.charmingPoint += 1;
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package me.coldrain.ninetyminute.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+// 주기적으로 계산해 두는 랭킹 스냅샷. generation 별로 한 벌씩 저장된다.
+@Entity
+@Table(name = "rank_snapshot", indexes = {
+        @Index(name = "idx_rank_snapshot_generation_category", columnList = "generation, category, ranking")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+@Getter
+public class RankSnapshot extends TimeStamped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rank_snapshot_id")
+    private Long id;
+
+    private Long generation;
+    private String category;    // team, striker, midfielder, defender, goalkeeper, mvp, charming
+    private Long subjectId;     // team_id 또는 member_id
+    private String name;
+    private String profileUrl;
+    private String position;
+    private Integer mvpPoint;
+    private Integer point;
+    private Integer ranking;
+
+    @Builder
+    public RankSnapshot(Long generation, String category, Long subjectId, String name, String profileUrl, String position, Integer mvpPoint, Integer point, Integer ranking) {
+        this.generation = generation;
+        this.category = category;
+        this.subjectId = subjectId;
+        this.name = name;
+        this.profileUrl = profileUrl;
+        this.position = position;
+        this.mvpPoint = mvpPoint;
+        this.point = point;
+        this.ranking = ranking;
+    }
+}
@@ -1,6 +1,7 @@
 package me.coldrain.ninetyminute.entity;
 
 import lombok.*;
+import me.coldrain.ninetyminute.search.GeoHash;
 import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.FilterDef;
 import org.hibernate.annotations.ParamDef;
@@ -8,10 +9,14 @@ import org.hibernate.annotations.SQLDelete;
 
 import javax.persistence.*;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Entity
+@Table(name = "team", indexes = {
+        @Index(name = "idx_team_geohash", columnList = "geohash")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(exclude = {"weekdays", "timeList"})
 @Getter
@@ -48,6 +53,25 @@ public class Team extends TimeStamped {
 
     private Boolean deleted = Boolean.FALSE;
 
+    // 활동 요일/시간대 비트 (Availability 참고)
+    private Integer availability;
+
+    // 승인된 팀원 수 (개설자 포함), TeamRepository 의 증감 쿼리로만 변경
+    // 엔티티 flush 가 동시에 반영된 증감을 이전 값으로 덮어쓰지 않도록 UPDATE 에서 제외
+    @Column(updatable = false)
+    private Integer approvedMemberCount = 0;
+
+    // 활동 위치, geohash 는 반경 검색용 (GeoHash 참고)
+    private Double latitude;
+    private Double longitude;
+    private String geohash;
+
+    // 가장 최근 경기 기록(History)과 경기 일시, TeamRepository.updateLastMatch 로만 변경 (엔티티 UPDATE 에서 제외)
+    @Column(updatable = false)
+    private Long lastHistoryId;
+    @Column(updatable = false)
+    private Date lastMatchDate;
+
     public void changeRecruit(Boolean recruit) {
         this.recruit = recruit;
     }
@@ -62,15 +86,34 @@ public class Team extends TimeStamped {
 
 //    public void delete() { this.deleted = true; }
 
-    public void modifyTeam(String teamImageFileUrl, String introduce, String mainArea, String preferredArea, List<String> weekdays, List<String> time) {
+    // weekdays, timeList 는 이미 저장된 엔티티 (cascade 가 없으므로 TeamService 에서 저장)
+    public void modifyTeam(String teamImageFileUrl, String introduce, String mainArea, String preferredArea, List<Weekday> weekdays, List<Time> timeList) {
         this.teamProfileUrl = teamImageFileUrl;
         this.introduce = introduce;
         this.mainArea = mainArea;
         this.preferredArea = preferredArea;
-        this.weekdays = weekdays.stream().map(wd -> new Weekday(wd, this))
-                .collect(Collectors.toList());
-        this.timeList = time.stream().map(t -> new Time(t, this))
-                .collect(Collectors.toList());
+        this.weekdays = weekdays;
+        this.timeList = timeList;
+        this.availability = Availability.encode(
+                weekdays.stream().map(Weekday::getWeekday).collect(Collectors.toList()),
+                timeList.stream().map(Time::getTime).collect(Collectors.toList()));
+    }
+
+    public void updateAvailability(Integer availability) {
+        this.availability = availability;
+    }
+
+    // 좌표가 없거나 범위를 벗어나면 위치 정보를 지운다
+    public void updateLocation(Double latitude, Double longitude) {
+        if (!GeoHash.isValid(latitude, longitude)) {
+            this.latitude = null;
+            this.longitude = null;
+            this.geohash = null;
+            return;
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.geohash = GeoHash.encode(latitude, longitude);
     }
 
     public void addWeekday(Weekday weekday) {
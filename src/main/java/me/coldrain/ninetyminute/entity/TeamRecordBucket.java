@@ -0,0 +1,58 @@
+package me.coldrain.ninetyminute.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+// 팀 전적의 월별 집계. 시즌/기간 랭킹은 이 행들의 합으로 계산한다.
+@Entity
+@Table(name = "team_record_bucket", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_team_record_bucket_team_period", columnNames = {"team_id", "period"})
+}, indexes = {
+        @Index(name = "idx_team_record_bucket_period", columnList = "period")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(exclude = "team")
+@Getter
+public class TeamRecordBucket extends TimeStamped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "team_record_bucket_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id")
+    private Team team;
+
+    private String period; // yyyy-MM
+
+    private Integer gameCount = 0;
+    private Integer winCount = 0;
+    private Integer loseCount = 0;
+    private Integer drawCount = 0;
+    private Integer winPoint = 0;
+
+    public TeamRecordBucket(Team team, String period) {
+        this.team = team;
+        this.period = period;
+    }
+
+    // 승 +3, 패 -1. Record 와 달리 0 미만도 그대로 둔다 (월별로 0 에서 자르면 기간 합계가 실제 득실과 달라진다)
+    public void addWin() {
+        this.gameCount += 1;
+        this.winCount += 1;
+        this.winPoint += 3;
+    }
+
+    public void addLose() {
+        this.gameCount += 1;
+        this.loseCount += 1;
+        this.winPoint -= 1;
+    }
+
+    public void addDraw() {
+        this.gameCount += 1;
+        this.drawCount += 1;
+    }
+}
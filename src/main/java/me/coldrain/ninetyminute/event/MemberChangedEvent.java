@@ -0,0 +1,56 @@
+package me.coldrain.ninetyminute.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import me.coldrain.ninetyminute.entity.Ability;
+import me.coldrain.ninetyminute.entity.Member;
+import me.coldrain.ninetyminute.rank.RankDimension;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원 정보 또는 능력치(Ability)가 변경되었을 때 발행되는 이벤트.
+ * 변경 시점의 값을 담아 커밋 이후 개인 랭킹을 갱신하는 데 사용한다.
+ * 점수는 RankDimension 순서(ordinal)대로 담는다.
+ * 커밋 이후 리스너는 커밋 순서와 다르게 실행될 수 있으므로, 값을 담은 순서대로 증가하는 version 으로 오래된 이벤트를 거른다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MemberChangedEvent {
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final Long memberId;
+    private final String profileUrl;
+    private final String nickname;
+    private final String position;
+    private final boolean secession;
+    private final boolean hasAbility;
+    @Getter(AccessLevel.NONE)
+    private final int[] points;
+    private final long version;
+
+    public static MemberChangedEvent of(Member member) {
+        final Ability ability = member.getAbility();
+        final int[] points = new int[RankDimension.values().length];
+        if (ability != null) {
+            for (RankDimension dimension : RankDimension.values()) {
+                points[dimension.ordinal()] = dimension.pointOf(ability);
+            }
+        }
+        return new MemberChangedEvent(member.getId(), member.getProfileUrl(), member.getNickname(), member.getPosition(),
+                member.isSecessionState(), ability != null, points, VERSIONS.incrementAndGet());
+    }
+
+    public int pointOf(RankDimension dimension) {
+        return points[dimension.ordinal()];
+    }
+
+    // 지금까지 발행한 마지막 version (이후에 만든 이벤트는 이보다 크다)
+    public static long currentVersion() {
+        return VERSIONS.get();
+    }
+}
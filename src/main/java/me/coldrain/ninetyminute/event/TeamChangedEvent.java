@@ -0,0 +1,68 @@
+package me.coldrain.ninetyminute.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import me.coldrain.ninetyminute.entity.Record;
+import me.coldrain.ninetyminute.entity.Team;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 팀 정보(모집/매칭 상태, 팀원 수 포함) 또는 전적(Record)이 변경되었을 때 발행되는 이벤트.
+ * 트랜잭션 커밋 이후 랭킹 등 메모리 구조를 갱신하기 위해 변경 시점의 값을 그대로 담는다.
+ * 커밋 이후 리스너는 커밋 순서와 다르게 실행될 수 있으므로, 값을 담은 순서대로 증가하는 version 으로 오래된 이벤트를 거른다.
+ * (modifiedDate 는 flush 시점에 채워지고 전적(Record)만 바뀌면 갱신되지 않아 이 용도로 쓸 수 없다)
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TeamChangedEvent {
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final Long teamId;
+    private final String name;
+    private final String teamProfileUrl;
+    private final String mainArea;
+    private final int winPoint;
+    private final double winRate;
+    private final boolean deleted;
+
+    // 팀 목록 조건/정렬 (TeamSearchIndex 가 DB 조회 없이 거르고 정렬하는 데 쓴다)
+    private final boolean recruit;
+    private final boolean matches;
+    private final int availability;
+    private final LocalDateTime createdDate;
+
+    private final long version;
+
+    public static TeamChangedEvent of(Team team) {
+        final Record record = team.getRecord();
+        return new TeamChangedEvent(
+                team.getId(),
+                team.getName(),
+                team.getTeamProfileUrl(),
+                team.getMainArea(),
+                record != null && record.getWinPoint() != null ? record.getWinPoint() : 0,
+                record != null && record.getWinRate() != null ? record.getWinRate() : 0.0,
+                Boolean.TRUE.equals(team.getDeleted()),
+                Boolean.TRUE.equals(team.getRecruit()),
+                Boolean.TRUE.equals(team.getMatches()),
+                team.getAvailability() != null ? team.getAvailability() : 0,
+                team.getCreatedDate(),
+                VERSIONS.incrementAndGet()
+        );
+    }
+
+    public static TeamChangedEvent disbanded(Long teamId) {
+        return new TeamChangedEvent(teamId, null, null, null, 0, 0.0, true, false, false, 0, null, VERSIONS.incrementAndGet());
+    }
+
+    // 지금까지 발행한 마지막 version (이후에 만든 이벤트는 이보다 크다)
+    public static long currentVersion() {
+        return VERSIONS.get();
+    }
+}
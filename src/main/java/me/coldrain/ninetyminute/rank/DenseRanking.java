@@ -0,0 +1,60 @@
+package me.coldrain.ninetyminute.rank;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * 이미 정렬된 목록에서 상위 size 개를 dense rank(공동 순위 다음은 +1) 로 잘라낸다.
+ */
+public final class DenseRanking {
+
+    private DenseRanking() {
+    }
+
+    @FunctionalInterface
+    public interface RankedMapper<T, R> {
+        R map(T entry, int rank);
+    }
+
+    // int 점수 하나로 순위를 매기는 경우 (박싱 없이 이전 점수만 비교)
+    public static <T, R> List<R> topByPoint(Collection<T> ordered, int size, ToIntFunction<? super T> score,
+                                     RankedMapper<? super T, ? extends R> mapper) {
+        final List<R> rankers = new ArrayList<>(Math.min(size, ordered.size()));
+        int previous = 0;
+        int rank = 0;
+        for (T entry : ordered) {
+            if (rankers.size() == size) {
+                break;
+            }
+            final int point = score.applyAsInt(entry);
+            if (rank == 0 || point != previous) {
+                rank++;
+            }
+            rankers.add(mapper.map(entry, rank));
+            previous = point;
+        }
+        return rankers;
+    }
+
+    // 여러 기준을 함께 비교하는 경우 (scoreOrder 가 0 이면 공동 순위)
+    public static <T, R> List<R> top(Collection<T> ordered, int size, Comparator<? super T> scoreOrder,
+                                     RankedMapper<? super T, ? extends R> mapper) {
+        final List<R> rankers = new ArrayList<>(Math.min(size, ordered.size()));
+        T previous = null;
+        int rank = 0;
+        for (T entry : ordered) {
+            if (rankers.size() == size) {
+                break;
+            }
+            if (previous == null || scoreOrder.compare(previous, entry) != 0) {
+                rank++;
+            }
+            rankers.add(mapper.map(entry, rank));
+            previous = entry;
+        }
+        return rankers;
+    }
+}
@@ -0,0 +1,174 @@
+package me.coldrain.ninetyminute.rank;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.coldrain.ninetyminute.dto.response.RankerMemberResponse;
+import me.coldrain.ninetyminute.entity.Member;
+import me.coldrain.ninetyminute.event.MemberChangedEvent;
+import me.coldrain.ninetyminute.repository.MemberRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 능력치 항목(RankDimension)별 개인 랭킹을 메모리에 유지한다.
+ * 포지션 항목은 해당 포지션 회원만, mvp/charming 은 능력치가 있는 모든 회원이 대상이다. (탈퇴 회원 제외)
+ * 애플리케이션 시작 시 한 번 적재하고, 이후에는 MemberChangedEvent 로 변경된 회원만 갱신한다.
+ * 회원마다 마지막으로 반영한 이벤트 version 을 기억해서 늦게 도착한 오래된 이벤트가 최신 값을 덮어쓰지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberLeaderboard {
+
+    private final MemberRepository memberRepository;
+
+    private final Map<Long, MemberRankEntry> entries = new HashMap<>();
+    // 회원별 마지막으로 반영한 이벤트 version (랭킹에서 빠진 회원도 유지해서 이전 이벤트가 되살리지 않게 한다)
+    private final Map<Long, Long> versions = new HashMap<>();
+    // 적재 조회 전에 만든 이벤트는 적재 결과보다 오래된 값이므로 반영하지 않는다
+    private long loadedVersion = 0;
+    private final Map<RankDimension, Board> boards = createBoards();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean loaded = false;
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final long readVersion = MemberChangedEvent.currentVersion();
+        final List<Member> members = memberRepository.findAllWithAbility();
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            versions.clear();
+            loadedVersion = readVersion;
+            boards.values().forEach(Board::clear);
+            members.forEach(member -> put(MemberRankEntry.of(member)));
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("MemberLeaderboard loaded. members = {}", members.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            final Long applied = versions.get(event.getMemberId());
+            if (event.getVersion() <= loadedVersion || (applied != null && applied >= event.getVersion())) {
+                return;
+            }
+            versions.put(event.getMemberId(), event.getVersion());
+            remove(event.getMemberId());
+            if (event.isHasAbility() && !event.isSecession()) {
+                put(MemberRankEntry.of(event));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public List<RankerMemberResponse> top(RankDimension dimension, int size) {
+        lock.readLock().lock();
+        try {
+            return boards.get(dimension).top(size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 해당 항목 랭킹에 없는 회원이면 null
+    public Integer rankOf(RankDimension dimension, Long memberId) {
+        lock.readLock().lock();
+        try {
+            final MemberRankEntry entry = entries.get(memberId);
+            final Board board = boards.get(dimension);
+            return entry != null && board.contains(entry) ? board.rankOf(entry) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(MemberRankEntry entry) {
+        entries.put(entry.getMemberId(), entry);
+        boards.values().stream()
+                .filter(board -> board.dimension.accepts(entry))
+                .forEach(board -> board.add(entry));
+    }
+
+    private void remove(Long memberId) {
+        final MemberRankEntry previous = entries.remove(memberId);
+        if (previous != null) {
+            boards.values().forEach(board -> board.remove(previous));
+        }
+    }
+
+    private static Map<RankDimension, Board> createBoards() {
+        final Map<RankDimension, Board> boards = new EnumMap<>(RankDimension.class);
+        for (RankDimension dimension : RankDimension.values()) {
+            boards.put(dimension, new Board(dimension));
+        }
+        return boards;
+    }
+
+    private static class Board {
+        private final RankDimension dimension;
+        private final NavigableSet<MemberRankEntry> ordered;
+        private final RankTree<MemberRankEntry> points;
+
+        private Board(RankDimension dimension) {
+            final Comparator<MemberRankEntry> pointOrder = Comparator.comparingInt(dimension::pointOf).reversed();
+            this.dimension = dimension;
+            this.ordered = new TreeSet<>(pointOrder.thenComparing(MemberRankEntry::getMemberId));
+            this.points = new RankTree<>(pointOrder);
+        }
+
+        private boolean contains(MemberRankEntry entry) {
+            return ordered.contains(entry);
+        }
+
+        private void add(MemberRankEntry entry) {
+            ordered.add(entry);
+            points.add(entry);
+        }
+
+        private void remove(MemberRankEntry entry) {
+            if (ordered.remove(entry)) {
+                points.remove(entry);
+            }
+        }
+
+        private void clear() {
+            ordered.clear();
+            points.clear();
+        }
+
+        private int rankOf(MemberRankEntry entry) {
+            return points.denseRank(entry);
+        }
+
+        private List<RankerMemberResponse> top(int size) {
+            return DenseRanking.topByPoint(ordered, size, dimension::pointOf, (entry, rank) -> new RankerMemberResponse(
+                    entry.getMemberId(),
+                    entry.getProfileUrl(),
+                    entry.getNickname(),
+                    entry.getPosition(),
+                    RankDimension.MVP.pointOf(entry),
+                    dimension.pointOf(entry),
+                    rank
+            ));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package me.coldrain.ninetyminute.rank;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import me.coldrain.ninetyminute.entity.Member;
+import me.coldrain.ninetyminute.event.MemberChangedEvent;
+
+// 점수는 RankDimension 순서(ordinal)대로 담는다
+@Getter
+@ToString
+@AllArgsConstructor
+public class MemberRankEntry {
+
+    private final Long memberId;
+    private final String profileUrl;
+    private final String nickname;
+    private final String position;
+    @Getter(AccessLevel.NONE)
+    private final int[] points;
+
+    public static MemberRankEntry of(Member member) {
+        return of(MemberChangedEvent.of(member));
+    }
+
+    public static MemberRankEntry of(MemberChangedEvent event) {
+        final int[] points = new int[RankDimension.values().length];
+        for (RankDimension dimension : RankDimension.values()) {
+            points[dimension.ordinal()] = event.pointOf(dimension);
+        }
+        return new MemberRankEntry(
+                event.getMemberId(),
+                event.getProfileUrl(),
+                event.getNickname(),
+                event.getPosition(),
+                points
+        );
+    }
+
+    public int pointOf(RankDimension dimension) {
+        return points[dimension.ordinal()];
+    }
+}
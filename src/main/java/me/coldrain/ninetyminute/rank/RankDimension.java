@@ -0,0 +1,82 @@
+package me.coldrain.ninetyminute.rank;
+
+import me.coldrain.ninetyminute.entity.Ability;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 개인 랭킹 항목. 항목마다 요청 키, 포지션 항목 여부, 점수 컬럼(Ability / MemberPointBucket 의 같은 이름 속성)을 가진다.
+ * 메모리 리더보드, 스냅샷, 랭킹 조회 쿼리(MemberRankQueryRepository), 요청 키 조회는 모두 이 enum 에서 파생되므로
+ * 새 항목은 상수 하나와 ability / member_point_bucket 의 점수 컬럼만 추가하면 된다.
+ */
+public enum RankDimension {
+
+    STRIKER("striker", true, "strikerPoint", Ability::getStrikerPoint),
+    MIDFIELDER("midfielder", true, "midfielderPoint", Ability::getMidfielderPoint),
+    DEFENDER("defender", true, "defenderPoint", Ability::getDefenderPoint),
+    GOALKEEPER("goalkeeper", true, "goalkeeperPoint", Ability::getGoalkeeperPoint),
+    MVP("mvp", false, "mvpPoint", Ability::getMvpPoint),
+    CHARMING("charming", false, "charmingPoint", Ability::getCharmingPoint);
+
+    private static final Map<String, RankDimension> BY_KEY = Arrays.stream(values())
+            .collect(Collectors.toMap(RankDimension::getKey, Function.identity()));
+
+    private final String key;
+    private final boolean position;
+    private final String property;
+    private final ToIntFunction<Ability> abilityPoint;
+
+    RankDimension(String key, boolean position, String property, ToIntFunction<Ability> abilityPoint) {
+        this.key = key;
+        this.position = position;
+        this.property = property;
+        this.abilityPoint = abilityPoint;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public boolean isPosition() {
+        return position;
+    }
+
+    // Ability, MemberPointBucket 의 점수 속성 이름
+    public String getProperty() {
+        return property;
+    }
+
+    public int pointOf(MemberRankEntry entry) {
+        return entry.pointOf(this);
+    }
+
+    public int pointOf(Ability ability) {
+        return abilityPoint.applyAsInt(ability);
+    }
+
+    // 포지션 항목은 해당 포지션 회원만 대상
+    public boolean accepts(MemberRankEntry entry) {
+        return !position || key.equals(entry.getPosition());
+    }
+
+    // 알 수 없는 항목은 기존과 같이 mvp 로 처리
+    public static RankDimension of(String key) {
+        final RankDimension dimension = find(key);
+        return dimension != null ? dimension : MVP;
+    }
+
+    // 알 수 없는 항목이면 null
+    public static RankDimension find(String key) {
+        return key != null ? BY_KEY.get(key) : null;
+    }
+
+    // 포지션 항목이 아니면 null
+    public static RankDimension ofPosition(String position) {
+        final RankDimension dimension = find(position);
+        return dimension != null && dimension.position ? dimension : null;
+    }
+}
@@ -0,0 +1,153 @@
+package me.coldrain.ninetyminute.rank;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 점수 키의 dense rank 를 O(log n) 에 계산하기 위한 order-statistic treap.
+ * 같은 점수(comparator 기준 0)는 하나의 노드에 개수로 합쳐지며,
+ * 서브트리의 서로 다른 키 개수를 유지해서 "나보다 앞선 점수의 종류 수 + 1" 을 바로 구한다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 한다.
+ */
+public class RankTree<K> {
+
+    private final Comparator<? super K> comparator;
+    private Node<K> root;
+
+    public RankTree(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    public void add(K key) {
+        root = insert(root, key);
+    }
+
+    public void remove(K key) {
+        root = delete(root, key);
+    }
+
+    public void clear() {
+        root = null;
+    }
+
+    // 키가 트리에 없더라도 들어갔을 때의 순위를 돌려준다.
+    public int denseRank(K key) {
+        int before = 0;
+        Node<K> node = root;
+        while (node != null) {
+            final int cmp = comparator.compare(key, node.key);
+            if (cmp == 0) {
+                before += distinct(node.left);
+                break;
+            } else if (cmp < 0) {
+                node = node.left;
+            } else {
+                before += distinct(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return before + 1;
+    }
+
+    public int distinctSize() {
+        return distinct(root);
+    }
+
+    private Node<K> insert(Node<K> node, K key) {
+        if (node == null) {
+            return new Node<>(key);
+        }
+        final int cmp = comparator.compare(key, node.key);
+        if (cmp == 0) {
+            node.count++;
+            return node;
+        }
+        if (cmp < 0) {
+            node.left = insert(node.left, key);
+            if (node.left.priority > node.priority) {
+                return rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, key);
+            if (node.right.priority > node.priority) {
+                return rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<K> delete(Node<K> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        final int cmp = comparator.compare(key, node.key);
+        if (cmp == 0) {
+            if (node.count > 1) {
+                node.count--;
+                return node;
+            }
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = delete(node.left, key);
+        } else {
+            node.right = delete(node.right, key);
+        }
+        update(node);
+        return node;
+    }
+
+    // left 의 모든 키가 right 의 모든 키보다 앞선다.
+    private Node<K> merge(Node<K> left, Node<K> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private Node<K> rotateRight(Node<K> node) {
+        final Node<K> left = node.left;
+        node.left = left.right;
+        update(node);
+        left.right = node;
+        update(left);
+        return left;
+    }
+
+    private Node<K> rotateLeft(Node<K> node) {
+        final Node<K> right = node.right;
+        node.right = right.left;
+        update(node);
+        right.left = node;
+        update(right);
+        return right;
+    }
+
+    private static <K> int distinct(Node<K> node) {
+        return node == null ? 0 : node.distinct;
+    }
+
+    private static <K> void update(Node<K> node) {
+        node.distinct = distinct(node.left) + distinct(node.right) + 1;
+    }
+
+    private static final class Node<K> {
+        private final K key;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int count = 1;
+        private int distinct = 1;
+        private Node<K> left;
+        private Node<K> right;
+
+        private Node(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package me.coldrain.ninetyminute.rank;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.coldrain.ninetyminute.dto.response.RankerTeamResponse;
+import me.coldrain.ninetyminute.entity.Team;
+import me.coldrain.ninetyminute.event.TeamChangedEvent;
+import me.coldrain.ninetyminute.repository.TeamRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 팀 랭킹을 메모리에 정렬된 상태로 유지한다.
+ * 전체 랭킹과 함께 활동 지역(mainArea)별 랭킹도 따로 유지해서 지역 랭킹도 같은 비용으로 조회한다.
+ * 애플리케이션 시작 시 한 번 적재하고, 이후에는 TeamChangedEvent 로 변경된 팀만 갱신한다.
+ * 팀마다 마지막으로 반영한 이벤트 version 을 기억해서 늦게 도착한 오래된 이벤트가 최신 값을 덮어쓰지 않게 한다.
+ * top-N 조회는 O(log n + N), 특정 팀의 순위 조회는 O(log n) 이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamLeaderboard {
+
+    private final TeamRepository teamRepository;
+
+    private final Map<Long, TeamRankEntry> entries = new HashMap<>();
+    // 팀별 마지막으로 반영한 이벤트 version (해체된 팀도 유지해서 해체 전 이벤트가 되살리지 않게 한다)
+    private final Map<Long, Long> versions = new HashMap<>();
+    // 적재 조회 전에 만든 이벤트는 적재 결과보다 오래된 값이므로 반영하지 않는다
+    private long loadedVersion = 0;
+    private final Board global = new Board();
+    private final Map<String, Board> areas = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean loaded = false;
+
+    // 랭킹에 변경이 반영될 때마다 증가, TeamRankDeltaPublisher 가 변경 여부를 판단하는 데 사용
+    private final AtomicLong version = new AtomicLong();
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final long readVersion = TeamChangedEvent.currentVersion();
+        final List<Team> teams = teamRepository.findAllWithRecord();
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            versions.clear();
+            global.clear();
+            areas.clear();
+            loadedVersion = readVersion;
+            teams.forEach(team -> put(TeamRankEntry.of(team)));
+            loaded = true;
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("TeamLeaderboard loaded. teams = {}, areas = {}", teams.size(), areas.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            final Long applied = versions.get(event.getTeamId());
+            if (event.getVersion() <= loadedVersion || (applied != null && applied >= event.getVersion())) {
+                return;
+            }
+            versions.put(event.getTeamId(), event.getVersion());
+            remove(event.getTeamId());
+            if (!event.isDeleted()) {
+                put(TeamRankEntry.of(event));
+            }
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public List<RankerTeamResponse> top(int size) {
+        lock.readLock().lock();
+        try {
+            return global.top(size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 해당 지역에 팀이 없으면 빈 목록
+    public List<RankerTeamResponse> top(String area, int size) {
+        lock.readLock().lock();
+        try {
+            final Board board = areas.get(area);
+            return board != null ? board.top(size) : new ArrayList<>();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 랭킹에 없는 팀(해체 등)이면 null
+    public Integer rankOf(Long teamId) {
+        lock.readLock().lock();
+        try {
+            final TeamRankEntry entry = entries.get(teamId);
+            return entry != null ? global.rankOf(entry) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 여러 팀의 순위를 한 번에 조회 (팀당 O(log n)), 랭킹에 없는 팀은 결과에서 제외
+    public Map<Long, Integer> ranksOf(Collection<Long> teamIds) {
+        lock.readLock().lock();
+        try {
+            final Map<Long, Integer> ranks = new HashMap<>();
+            for (Long teamId : teamIds) {
+                final TeamRankEntry entry = entries.get(teamId);
+                if (entry != null) {
+                    ranks.put(teamId, global.rankOf(entry));
+                }
+            }
+            return ranks;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(TeamRankEntry entry) {
+        entries.put(entry.getTeamId(), entry);
+        global.add(entry);
+        if (entry.getMainArea() != null) {
+            areas.computeIfAbsent(entry.getMainArea(), area -> new Board()).add(entry);
+        }
+    }
+
+    private void remove(Long teamId) {
+        final TeamRankEntry previous = entries.remove(teamId);
+        if (previous != null) {
+            global.remove(previous);
+            final Board area = previous.getMainArea() != null ? areas.get(previous.getMainArea()) : null;
+            if (area != null) {
+                area.remove(previous);
+                if (area.isEmpty()) {
+                    areas.remove(previous.getMainArea());
+                }
+            }
+        }
+    }
+
+    private static class Board {
+        private final NavigableSet<TeamRankEntry> ordered = new TreeSet<>(TeamRankEntry.ORDER);
+        private final RankTree<TeamRankEntry> scores = new RankTree<>(TeamRankEntry.SCORE_ORDER);
+
+        private void add(TeamRankEntry entry) {
+            ordered.add(entry);
+            scores.add(entry);
+        }
+
+        private void remove(TeamRankEntry entry) {
+            if (ordered.remove(entry)) {
+                scores.remove(entry);
+            }
+        }
+
+        private boolean isEmpty() {
+            return ordered.isEmpty();
+        }
+
+        private void clear() {
+            ordered.clear();
+            scores.clear();
+        }
+
+        private int rankOf(TeamRankEntry entry) {
+            return scores.denseRank(entry);
+        }
+
+        private List<RankerTeamResponse> top(int size) {
+            return DenseRanking.top(ordered, size, TeamRankEntry.SCORE_ORDER, (entry, rank) -> new RankerTeamResponse(
+                    entry.getTeamId(),
+                    entry.getTeamProfileUrl(),
+                    entry.getTeamName(),
+                    entry.getWinPoint(),
+                    rank
+            ));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package me.coldrain.ninetyminute.rank;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.coldrain.ninetyminute.dto.response.RankerTeamResponse;
+import me.coldrain.ninetyminute.dto.response.TeamRankDeltaResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 팀 랭킹 상위 N 의 변동분(delta)을 /topic/rank/teams 로 push 한다.
+ * 주기(rank.delta.interval-ms, 기본 1초)마다 TeamLeaderboard 의 버전을 확인해서 바뀐 경우에만 한 번 전송하므로
+ * 경기 결과가 몰려도 주기당 메시지는 최대 1개다.
+ * 버전은 TeamLeaderboard 가 변경을 반영한 뒤 올리므로 리스너 실행 순서와 무관하게 반영 전 랭킹으로 비교하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamRankDeltaPublisher {
+
+    public static final String TOPIC = "/topic/rank/teams";
+
+    private final TeamLeaderboard teamLeaderboard;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${rank.delta.size:10}")
+    private int deltaSize;
+
+    // 마지막으로 전송한 상위 N 과 그때의 랭킹 버전 (scheduler 스레드에서만 접근)
+    private Map<Long, RankerTeamResponse> published;
+    private long publishedVersion;
+
+    @Scheduled(fixedDelayString = "${rank.delta.interval-ms:1000}")
+    public void publish() {
+        if (!teamLeaderboard.isLoaded()) {
+            return;
+        }
+        // 상위 N 보다 먼저 읽어서, 조회 도중 바뀐 내용은 다음 주기에 다시 비교되게 한다
+        final long version = teamLeaderboard.version();
+        if (published == null) {
+            published = index(teamLeaderboard.top(deltaSize));
+            publishedVersion = version;
+            return;
+        }
+        if (version == publishedVersion) {
+            return;
+        }
+
+        final Map<Long, RankerTeamResponse> current = index(teamLeaderboard.top(deltaSize));
+        final List<TeamRankDeltaResponse> deltas = diff(published, current);
+        published = current;
+        publishedVersion = version;
+        if (!deltas.isEmpty()) {
+            messagingTemplate.convertAndSend(TOPIC, deltas);
+            log.debug("Team rank deltas published. size = {}", deltas.size());
+        }
+    }
+
+    private static List<TeamRankDeltaResponse> diff(Map<Long, RankerTeamResponse> previous, Map<Long, RankerTeamResponse> current) {
+        final List<TeamRankDeltaResponse> deltas = new ArrayList<>();
+        current.forEach((teamId, ranker) -> {
+            final RankerTeamResponse before = previous.get(teamId);
+            if (before == null || before.getRank() != ranker.getRank() || before.getWinPoint() != ranker.getWinPoint()) {
+                deltas.add(new TeamRankDeltaResponse(teamId, ranker.getTeamProfileUrl(), ranker.getTeamName(),
+                        ranker.getWinPoint(), before != null ? before.getRank() : null, ranker.getRank()));
+            }
+        });
+        previous.forEach((teamId, before) -> {
+            if (!current.containsKey(teamId)) {
+                deltas.add(new TeamRankDeltaResponse(teamId, before.getTeamProfileUrl(), before.getTeamName(),
+                        before.getWinPoint(), before.getRank(), null));
+            }
+        });
+        return deltas;
+    }
+
+    private static Map<Long, RankerTeamResponse> index(List<RankerTeamResponse> rankers) {
+        final Map<Long, RankerTeamResponse> indexed = new LinkedHashMap<>();
+        rankers.forEach(ranker -> indexed.put(ranker.getTeamId(), ranker));
+        return indexed;
+    }
+}
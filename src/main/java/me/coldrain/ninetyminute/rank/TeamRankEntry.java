@@ -0,0 +1,46 @@
+package me.coldrain.ninetyminute.rank;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import me.coldrain.ninetyminute.entity.Team;
+import me.coldrain.ninetyminute.event.TeamChangedEvent;
+
+import java.util.Comparator;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class TeamRankEntry {
+
+    // 승점 내림차순, 승률 내림차순 (같으면 공동 순위)
+    public static final Comparator<TeamRankEntry> SCORE_ORDER = Comparator
+            .comparingInt(TeamRankEntry::getWinPoint).reversed()
+            .thenComparing(Comparator.comparingDouble(TeamRankEntry::getWinRate).reversed());
+
+    // 공동 순위 안에서는 팀 id 순으로 고정
+    public static final Comparator<TeamRankEntry> ORDER = SCORE_ORDER
+            .thenComparing(TeamRankEntry::getTeamId);
+
+    private final Long teamId;
+    private final String teamName;
+    private final String teamProfileUrl;
+    private final String mainArea;
+    private final int winPoint;
+    private final double winRate;
+
+    public static TeamRankEntry of(Team team) {
+        return of(TeamChangedEvent.of(team));
+    }
+
+    public static TeamRankEntry of(TeamChangedEvent event) {
+        return new TeamRankEntry(
+                event.getTeamId(),
+                event.getName(),
+                event.getTeamProfileUrl(),
+                event.getMainArea(),
+                event.getWinPoint(),
+                event.getWinRate()
+        );
+    }
+}
@@ -1,9 +1,13 @@
 package me.coldrain.ninetyminute.repository;
 
+import me.coldrain.ninetyminute.dto.ApprovedMatchView;
+import me.coldrain.ninetyminute.dto.OfferMatchView;
 import me.coldrain.ninetyminute.entity.Apply;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +16,10 @@ public interface ApplyRepository extends JpaRepository<Apply, Long> {
     @Query("SELECT a FROM Apply a WHERE a.applyTeam.id = :applyTeamId AND a.team.id = :teamId AND a.applyTeam.deleted = false AND a.team.deleted = false")
     Optional<Apply> findByApplyTeamIdAndTeamId(final Long applyTeamId, final Long teamId);
 
+    //팀 상세 조회 시 조회자 팀의 대결 신청 여부/수락 여부
+    @Query("SELECT a.approved FROM Apply a WHERE a.applyTeam.id = :applyTeamId AND a.team.id = :teamId AND a.applyTeam.deleted = false AND a.team.deleted = false")
+    List<Boolean> findApprovedByApplyTeamIdAndTeamId(final Long applyTeamId, final Long teamId);
+
     @Query("SELECT a FROM Apply a WHERE a.applyTeam.id = :applyTeamId AND a.team.id = :teamId and a.endMatchStatus = true and a.opposingTeamEndMatchStatus = true")
     Optional<Apply> findByApplyTeamIdAndTeamIdAndEndMatch(final Long applyTeamId, final Long teamId);
 
@@ -24,11 +32,31 @@ public interface ApplyRepository extends JpaRepository<Apply, Long> {
     @Query("select a from Apply a where a.applyTeam.id = :ApplyTeamId AND a.approved = true  AND a.endMatchStatus = true  AND  a.opposingTeamEndMatchStatus = true")
     List<Apply> findAllByApplyEndApplyTeamId(final Long ApplyTeamId);
 
-    @Query("select a from Apply a where a.team.id = :teamId order by a.createdDate desc ")
-    List<Apply> findAllByTeamIdOrderByCreatedDate(final Long teamId);
-
-    @Query("select a from Apply a where (a.applyTeam.id = :teamId or a.team.id = :teamId) and a.team.deleted = false and a.applyTeam.deleted = false and a.endMatchStatus = false and a.opposingTeamEndMatchStatus = false and a.approved = true order by a.modifiedDate desc ")
-    List<Apply> findAllByApprovedMatches(final Long teamId);
+    //받은 대결 신청 목록 한 페이지, (cursorDate, cursorId) 이후 행을 최신순으로
+    @Query("select a.id as applyId, at.id as opposingTeamId, at.name as opposingTeamName, r.winPoint as opposingTeamPoint, r.winRate as winRate, " +
+            "a.greeting as greeting, a.createdDate as createdDate, a.modifiedDate as modifiedDate " +
+            "from Apply a join a.applyTeam at join at.record r " +
+            "where a.team.id = :teamId and (a.createdDate < :cursorDate or (a.createdDate = :cursorDate and a.id < :cursorId)) " +
+            "order by a.createdDate desc, a.id desc")
+    List<OfferMatchView> findOfferPage(final Long teamId, final LocalDateTime cursorDate, final Long cursorId, final Pageable pageable);
+
+    //성사된 대결 목록 한 페이지, 상대 팀은 teamId 가 홈 팀이면 신청 팀, 아니면 홈 팀
+    //수정 시각은 수락/점수 입력 때마다 바뀌어 행이 페이지 사이를 옮겨 다니므로 신청 시각 (createdDate, id) 기준으로 넘긴다
+    @Query("select a.id as applyId, a.createdDate as createdDate, " +
+            "case when t.id = :teamId then at.id else t.id end as opposingTeamId, " +
+            "case when t.id = :teamId then at.name else t.name end as opposingTeamName, " +
+            "case when t.id = :teamId then at.approvedMemberCount else t.approvedMemberCount end as opposingTeamMemberCount, " +
+            "case when t.id = :teamId then ar.winPoint else tr.winPoint end as opposingTeamPoint, " +
+            "case when t.id = :teamId then ar.totalGameCount else tr.totalGameCount end as opposingTeamTotalGameCount, " +
+            "case when t.id = :teamId then ar.winRate else tr.winRate end as opposingTeamWinRate, " +
+            "case when t.id = :teamId then ar.winCount else tr.winCount end as opposingTeamWinCount, " +
+            "case when t.id = :teamId then ar.drawCount else tr.drawCount end as opposingTeamDrawCount, " +
+            "case when t.id = :teamId then ar.loseCount else tr.loseCount end as opposingTeamLoseCount " +
+            "from Apply a join a.team t join t.record tr join a.applyTeam at join at.record ar " +
+            "where (at.id = :teamId or t.id = :teamId) and t.deleted = false and at.deleted = false and a.endMatchStatus = false and a.opposingTeamEndMatchStatus = false and a.approved = true " +
+            "and (a.createdDate < :cursorDate or (a.createdDate = :cursorDate and a.id < :cursorId)) " +
+            "order by a.createdDate desc, a.id desc")
+    List<ApprovedMatchView> findApprovedMatchPage(final Long teamId, final LocalDateTime cursorDate, final Long cursorId, final Pageable pageable);
 
     @Query("select a from Apply a where a.id = :applyId and a.endMatchStatus = false and a.opposingTeamEndMatchStatus = false ")
     Optional<Apply> findByIdAndMatchesStatusFalse(Long applyId);
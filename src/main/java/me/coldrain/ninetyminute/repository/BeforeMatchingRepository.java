@@ -6,6 +6,7 @@ import me.coldrain.ninetyminute.entity.BeforeMatching;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,8 +27,15 @@ public interface BeforeMatchingRepository extends JpaRepository<BeforeMatching,
     @Query("select bm from BeforeMatching bm where bm.apply.id = :applyId and bm.apply.team.deleted = false and bm.apply.applyTeam.deleted = false ")
     Optional<BeforeMatching> findByApplyId(final Long applyId);
 
-    @Query("select bm from BeforeMatching bm where (bm.apply.team.id = :teamId or bm.apply.applyTeam.id = :teamId) and bm.apply.team.deleted = false and bm.apply.applyTeam.deleted = false and bm.apply.approved = true and bm.apply.endMatchStatus = false and bm.apply.opposingTeamEndMatchStatus = false order by bm.matchDate desc ")
-    List<BeforeMatching> findAllMatches(final Long teamId);
+    //teamIds 중 예정된 대결(수락 후 종료 전)이 있는 팀 id
+    @Query("select t.id from Team t where t.id in :teamIds and exists (select bm.id from BeforeMatching bm " +
+            "where (bm.apply.team = t or bm.apply.applyTeam = t) and bm.apply.team.deleted = false and bm.apply.applyTeam.deleted = false " +
+            "and bm.apply.approved = true and bm.apply.endMatchStatus = false and bm.apply.opposingTeamEndMatchStatus = false)")
+    List<Long> findTeamIdsWithUpcomingMatch(final Collection<Long> teamIds);
+
+    //대결 목록의 신청 건들을 한 번에 조회
+    @Query("select bm from BeforeMatching bm where bm.apply.id in :applyIds and bm.apply.team.deleted = false and bm.apply.applyTeam.deleted = false ")
+    List<BeforeMatching> findAllByApplyIds(final Collection<Long> applyIds);
 
     @Query("select bm from BeforeMatching bm where bm.id = :beforeMatchingId and bm.apply.team.deleted = false and bm.apply.applyTeam.deleted = false")
     Optional<BeforeMatching> findByBeforeMatchingId(final Long beforeMatchingId);
@@ -28,4 +28,8 @@ public interface HistoryRepository extends JpaRepository<History, Long> {
 
     @Query("select h from History h where h.team.id = :teamId or h.opposingTeam.id = :teamId order by h.id desc")
     List<History> findAllByTeamId(Long teamId);
+
+    //팀 상세의 최근 경기 표시용, 경기 전/후 정보를 함께 조회
+    @Query("select h from History h join fetch h.beforeMatching join fetch h.afterMatching where h.id = :historyId")
+    Optional<History> findWithMatchingsById(Long historyId);
 }
@@ -0,0 +1,30 @@
+package me.coldrain.ninetyminute.repository;
+
+import me.coldrain.ninetyminute.entity.MemberPointBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface MemberPointBucketRepository extends JpaRepository<MemberPointBucket, Long> {
+
+    boolean existsByMemberIdAndPeriod(Long memberId, String period);
+
+    //해당 기간 집계 행이 없는 회원만 한 번에 생성 (동시에 만들어도 unique 제약 위반 없이 한쪽 행이 남는다)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO member_point_bucket (member_id, period, striker_point, midfielder_point, defender_point, " +
+            "goalkeeper_point, mvp_point, charming_point, created_date, modified_date) " +
+            "SELECT m.member_id, :period, 0, 0, 0, 0, 0, 0, :now, :now FROM member m WHERE m.member_id IN (:memberIds) " +
+            "ON DUPLICATE KEY UPDATE member_id = member_id", nativeQuery = true)
+    int createIfAbsent(Collection<Long> memberIds, String period, LocalDateTime now);
+
+    //경기 결과 반영 시 같은 행을 동시에 갱신하지 않도록 행 잠금 (행이 있을 때만 호출해서 gap lock 을 피한다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM MemberPointBucket b WHERE b.member.id = :memberId AND b.period = :period")
+    Optional<MemberPointBucket> findByMemberIdAndPeriodForUpdate(Long memberId, String period);
+}
@@ -0,0 +1,88 @@
+package me.coldrain.ninetyminute.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import me.coldrain.ninetyminute.dto.response.RankerMemberResponse;
+import me.coldrain.ninetyminute.rank.DenseRanking;
+import me.coldrain.ninetyminute.rank.RankDimension;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static me.coldrain.ninetyminute.entity.QAbility.ability;
+import static me.coldrain.ninetyminute.entity.QMember.member;
+import static me.coldrain.ninetyminute.entity.QMemberPointBucket.memberPointBucket;
+
+/**
+ * 개인 랭킹 DB 조회. 점수 컬럼과 포지션 조건은 RankDimension 에서 꺼내므로 항목마다 쿼리를 따로 두지 않는다.
+ * 점수 desc, 회원 id 순으로 상위 size 명만 읽고 dense rank 는 메모리 리더보드와 같은 DenseRanking 으로 매긴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberRankQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    //전체 기간 개인 랭킹 (리더보드 적재 전)
+    public List<RankerMemberResponse> findRankers(RankDimension dimension, int size) {
+        final NumberPath<Integer> point = Expressions.numberPath(Integer.class, ability, dimension.getProperty());
+        final List<Tuple> rows = queryFactory
+                .select(member.id, member.profileUrl, member.nickname, member.position, ability.mvpPoint, point)
+                .from(member)
+                .join(member.ability, ability)
+                .where(member.secessionState.isFalse(), positionOf(dimension))
+                .orderBy(point.desc(), member.id.asc())
+                .limit(size)
+                .fetch();
+        return DenseRanking.topByPoint(rows, size, row -> valueOf(row.get(point)), (row, rank) -> new RankerMemberResponse(
+                row.get(member.id),
+                row.get(member.profileUrl),
+                row.get(member.nickname),
+                row.get(member.position),
+                valueOf(row.get(ability.mvpPoint)),
+                valueOf(row.get(point)),
+                rank
+        ));
+    }
+
+    //기간(from ~ to, yyyy-MM) 개인 랭킹
+    public List<RankerMemberResponse> findRankers(RankDimension dimension, String from, String to, int size) {
+        // JPQL SUM 은 Long 을 돌려주므로 Long 경로로 합산한다
+        final NumberExpression<Long> point = Expressions.numberPath(Long.class, memberPointBucket, dimension.getProperty()).sum();
+        final NumberExpression<Long> mvpPoint = Expressions.numberPath(Long.class, memberPointBucket, RankDimension.MVP.getProperty()).sum();
+        final List<Tuple> rows = queryFactory
+                .select(member.id, member.profileUrl, member.nickname, member.position, mvpPoint, point)
+                .from(memberPointBucket)
+                .join(memberPointBucket.member, member)
+                .where(member.secessionState.isFalse(),
+                        memberPointBucket.period.between(from, to),
+                        positionOf(dimension))
+                .groupBy(member.id, member.profileUrl, member.nickname, member.position)
+                .orderBy(point.desc(), member.id.asc())
+                .limit(size)
+                .fetch();
+        return DenseRanking.topByPoint(rows, size, row -> valueOf(row.get(point)), (row, rank) -> new RankerMemberResponse(
+                row.get(member.id),
+                row.get(member.profileUrl),
+                row.get(member.nickname),
+                row.get(member.position),
+                valueOf(row.get(mvpPoint)),
+                valueOf(row.get(point)),
+                rank
+        ));
+    }
+
+    // 포지션 항목은 해당 포지션 회원만
+    private BooleanExpression positionOf(RankDimension dimension) {
+        return dimension.isPosition() ? member.position.eq(dimension.getKey()) : null;
+    }
+
+    private static int valueOf(Number point) {
+        return point != null ? point.intValue() : 0;
+    }
+}
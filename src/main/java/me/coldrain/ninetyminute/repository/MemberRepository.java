@@ -4,6 +4,7 @@ import me.coldrain.ninetyminute.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,17 +19,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("SELECT m FROM Member m WHERE m.openTeam.id = :teamId AND m.openTeam.deleted = false")
     Optional<Member> findByOpenTeam(Long teamId);
 
-    //포지션 랭킹 조회
-    @Query("SELECT m FROM Member m WHERE m.secessionState = false ORDER BY m.ability.mvpPoint desc")
-    List<Member> findAllByMvpPoint();
-    @Query("SELECT m FROM Member m WHERE m.secessionState = false ORDER BY m.ability.charmingPoint desc")
-    List<Member> findAllByCharmingPoint();
-    @Query("SELECT m FROM Member m WHERE m.position = :striker AND m.secessionState = false ORDER BY m.ability.strikerPoint desc")
-    List<Member> findAllByStrikerPoint(String striker);
-    @Query("SELECT m FROM Member m WHERE m.position = :midfielder AND m.secessionState = false ORDER BY m.ability.midfielderPoint desc")
-    List<Member> findAllByMidfielderPoint(String midfielder);
-    @Query("SELECT m FROM Member m WHERE m.position = :defender AND m.secessionState = false ORDER BY m.ability.defenderPoint desc")
-    List<Member> findAllByDefenderPoint(String defender);
-    @Query("SELECT m FROM Member m WHERE m.position = :goalkeeper AND m.secessionState = false ORDER BY m.ability.goalkeeperPoint desc")
-    List<Member> findAllByGoalkeeperPoint(String goalkeeper);
+    //대결 목록의 상대 팀 주장들을 한 번에 조회
+    @Query("SELECT m FROM Member m JOIN FETCH m.openTeam t WHERE t.id IN :teamIds AND t.deleted = false")
+    List<Member> findAllByOpenTeamIds(Collection<Long> teamIds);
+
+    //랭킹 적재용 능력치가 있는 전체 회원 조회
+    @Query("SELECT m FROM Member m JOIN FETCH m.ability WHERE m.secessionState = false")
+    List<Member> findAllWithAbility();
 }
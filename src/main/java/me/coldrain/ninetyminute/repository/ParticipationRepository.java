@@ -1,10 +1,14 @@
 package me.coldrain.ninetyminute.repository;
 
+import me.coldrain.ninetyminute.dto.MyTeamView;
 import me.coldrain.ninetyminute.entity.Member;
 import me.coldrain.ninetyminute.entity.Participation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +20,9 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
     @Query("SELECT p FROM Participation p WHERE p.member.id = :memberId AND p.approved = true AND p.team.deleted = false")
     List<Participation> findAllByMemberIdTrue(final Long memberId);
 
+    @Query("SELECT p FROM Participation p JOIN FETCH p.team t JOIN FETCH t.record WHERE p.member.id = :memberId AND p.approved = true AND t.deleted = false")
+    List<Participation> findAllWithTeamRecordByMemberIdTrue(final Long memberId);
+
     @Query("SELECT p FROM Participation p WHERE p.member.id = :memberId AND p.approved = false AND p.team.deleted = false")
     List<Participation> findAllByMemberIdFalse(final Long memberId);
 
@@ -25,8 +32,21 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
     @Query("SELECT p FROM Participation p WHERE p.member.id = :memberId AND p.team.id = :teamId AND p.approved = true AND p.team.deleted = false")
     Optional<Participation> findByMemberIdAndTeamIdTrue(final Long memberId, final Long teamId);
 
-    @Query("SELECT p FROM Participation p WHERE p.member.id = :memberId AND p.approved = true AND p.team.deleted = false")
-    List<Participation> findAllByMembersTrue(final Long memberId);
+    //소속 팀 목록 한 페이지, (cursorDate, cursorId) 이후 행을 최신순으로
+    @Query("SELECT p.id AS participationId, t.id AS teamId, t.name AS teamName, t.approvedMemberCount AS teamMemberCount, " +
+            "r.winPoint AS teamPoint, r.winRate AS teamWinRate, r.totalGameCount AS teamTotalGameCount, " +
+            "r.winCount AS teamWinCount, r.drawCount AS teamDrawCount, r.loseCount AS teamLoseCount, t.mainArea AS mainArea, " +
+            "p.createdDate AS createdDate, p.modifiedDate AS modifiedDate " +
+            "FROM Participation p JOIN p.team t JOIN t.record r " +
+            "WHERE p.member.id = :memberId AND p.approved = true AND t.deleted = false " +
+            "AND (p.createdDate < :cursorDate OR (p.createdDate = :cursorDate AND p.id < :cursorId)) " +
+            "ORDER BY p.createdDate DESC, p.id DESC")
+    List<MyTeamView> findMyTeamPage(final Long memberId, final LocalDateTime cursorDate, final Long cursorId, final Pageable pageable);
+
+    //승인 대기 중인 참여만 승인, 같은 참여를 동시에 승인해도 1 은 한 번만 돌려준다
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Participation p SET p.approved = true, p.modifiedDate = :now WHERE p.id = :participationId AND p.approved = false")
+    int approve(final Long participationId, final LocalDateTime now);
 
     @Query("SELECT p FROM Participation p WHERE p.team.id = :teamId AND p.approved = true AND p.team.deleted = false")
     List<Participation> findAllByTeamIdTrue(final Long teamId);
@@ -0,0 +1,30 @@
+package me.coldrain.ninetyminute.repository;
+
+import me.coldrain.ninetyminute.entity.RankSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface RankSnapshotRepository extends JpaRepository<RankSnapshot, Long> {
+
+    //최신 generation 의 모든 항목
+    @Query("select s from RankSnapshot s where s.generation = (select max(s2.generation) from RankSnapshot s2) order by s.category, s.ranking, s.subjectId")
+    List<RankSnapshot> findLatest();
+
+    Optional<RankSnapshot> findFirstByOrderByGenerationDesc();
+
+    //마지막으로 발급한 generation, 갱신 트랜잭션이 끝날 때까지 행을 잠가 다른 인스턴스의 갱신을 기다리게 한다
+    @Query(value = "SELECT generation FROM rank_snapshot_generation WHERE id = 1 FOR UPDATE", nativeQuery = true)
+    Long lockLastGeneration();
+
+    @Modifying
+    @Query(value = "UPDATE rank_snapshot_generation SET generation = :generation WHERE id = 1", nativeQuery = true)
+    void updateLastGeneration(Long generation);
+
+    @Modifying
+    @Query("delete from RankSnapshot s where s.generation < :generation")
+    void deleteOlderThan(Long generation);
+}
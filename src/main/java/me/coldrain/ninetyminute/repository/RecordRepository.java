@@ -1,14 +1,39 @@
 package me.coldrain.ninetyminute.repository;
 
+import me.coldrain.ninetyminute.dto.RankerTeamView;
 import me.coldrain.ninetyminute.entity.Record;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface RecordRepository extends JpaRepository<Record, Long> {
     List<Record> findAllByOrderByWinPointDesc();
 
-    @Query("select r from Record r inner join Team t on r.id = t.record.id where t.deleted = false order by r.winPoint desc, r.winRate desc")
-    List<Record> findAllByOrderByWinPointDescWinRateDesc();
+    //팀 랭킹 조회 (DB 에서 DENSE_RANK + LIMIT 까지 처리)
+    @Query(value = "SELECT t.team_id AS teamId, t.team_profile_url AS teamProfileUrl, t.name AS teamName, r.win_point AS winPoint, " +
+            "DENSE_RANK() OVER (ORDER BY r.win_point DESC, r.win_rate DESC) AS ranking " +
+            "FROM team t INNER JOIN record r ON r.record_id = t.record_id " +
+            "WHERE t.deleted = false " +
+            "ORDER BY ranking, t.team_id LIMIT :size", nativeQuery = true)
+    List<RankerTeamView> findRankers(int size);
+
+    //지역별 팀 랭킹 조회
+    @Query(value = "SELECT t.team_id AS teamId, t.team_profile_url AS teamProfileUrl, t.name AS teamName, r.win_point AS winPoint, " +
+            "DENSE_RANK() OVER (ORDER BY r.win_point DESC, r.win_rate DESC) AS ranking " +
+            "FROM team t INNER JOIN record r ON r.record_id = t.record_id " +
+            "WHERE t.deleted = false AND t.main_area = :area " +
+            "ORDER BY ranking, t.team_id LIMIT :size", nativeQuery = true)
+    List<RankerTeamView> findRankersByArea(String area, int size);
+
+    //지정한 팀들의 순위만 조회 (전체 팀 기준 DENSE_RANK)
+    @Query(value = "SELECT x.teamId AS teamId, x.teamProfileUrl AS teamProfileUrl, x.teamName AS teamName, x.winPoint AS winPoint, " +
+            "x.ranking AS ranking FROM (" +
+            "SELECT t.team_id AS teamId, t.team_profile_url AS teamProfileUrl, t.name AS teamName, r.win_point AS winPoint, " +
+            "DENSE_RANK() OVER (ORDER BY r.win_point DESC, r.win_rate DESC) AS ranking " +
+            "FROM team t INNER JOIN record r ON r.record_id = t.record_id " +
+            "WHERE t.deleted = false) x " +
+            "WHERE x.teamId IN (:teamIds)", nativeQuery = true)
+    List<RankerTeamView> findRanksByTeamIds(Collection<Long> teamIds);
 }
@@ -1,49 +1,193 @@
 package me.coldrain.ninetyminute.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import me.coldrain.ninetyminute.dto.CursorSlice;
 import me.coldrain.ninetyminute.dto.QTeamListSearch;
+import me.coldrain.ninetyminute.dto.TeamListCursor;
 import me.coldrain.ninetyminute.dto.TeamListSearch;
 import me.coldrain.ninetyminute.dto.TeamListSearchCondition;
-import me.coldrain.ninetyminute.entity.Time;
-import me.coldrain.ninetyminute.entity.Weekday;
+import me.coldrain.ninetyminute.entity.Availability;
+import me.coldrain.ninetyminute.search.GeoHash;
+import me.coldrain.ninetyminute.search.TeamSearchIndex;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
-import static me.coldrain.ninetyminute.entity.QParticipation.participation;
 import static me.coldrain.ninetyminute.entity.QRecord.record;
 import static me.coldrain.ninetyminute.entity.QTeam.team;
+import static me.coldrain.ninetyminute.entity.QTime.time1;
+import static me.coldrain.ninetyminute.entity.QWeekday.weekday1;
 
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class TeamQueryRepository {
 
+    // 승률이 비어 있는 팀도 cursor 로 이어서 조회할 수 있도록 정렬/비교 모두 NO_WIN_RATE 로 채운 값을 쓴다
+    private static final NumberExpression<Double> WIN_RATE = team.record.winRate.coalesce(TeamListCursor.NO_WIN_RATE);
+
+    private static final double DEFAULT_RADIUS_KM = 10;
+    private static final double MAX_RADIUS_KM = 50;
+
     private final JPAQueryFactory queryFactory;
-    private final WeekdayRepository weekdayRepository;
-    private final TimeRepository timeRepository;
+    private final TeamSearchIndex teamSearchIndex;
 
     public Slice<TeamListSearch> findAllTeamListSearch(
             final TeamListSearchCondition searchCondition,
             final Pageable pageable) {
 
+        final String sort = sortOf(searchCondition.getWinRate());
+        final TeamListCursor cursor = searchCondition.getCursor() != null
+                ? TeamListCursor.decode(searchCondition.getCursor(), sort)
+                : null;
+
+        if (GeoHash.isValid(searchCondition.getLatitude(), searchCondition.getLongitude())) {
+            return findAllNearby(searchCondition, pageable);
+        }
+        // 이름/지역 검색은 색인에서 조건/정렬/페이지까지 처리하고 해당 페이지 팀만 조회한다. (색인이 처리할 수 없으면 LIKE)
+        final TeamSearchIndex.SearchPage indexed = teamSearchIndex.search(searchCondition, sort, cursor, pageable);
+        if (indexed != null) {
+            return findIndexedPage(indexed, sort, pageable);
+        }
+
+        JPAQuery<TeamListSearch> query = selectTeamListSearch()
+                .where(containsIgnoreCaseTeamName(searchCondition.getInput()),   // 팀 이름
+                        containsAddress(searchCondition.getAddress()),  // 주소
+                        eqMatch(searchCondition.getMatch()),    // 대결 등록 상태
+                        eqRecruit(searchCondition.getRecruit()), // 모집 상태
+                        matchWeekdays(searchCondition.getWeekdays()), // 활동 요일
+                        matchTime(searchCondition.getTime()),  // 활동 시간대
+                        afterCursor(sort, cursor),  // 이전 페이지 마지막 행 이후
+                        team.deleted.eq(false)  // 팀 해체 상태
+                )
+                .limit(pageable.getPageSize() + 1); // limit 보다 데이터를 1개 더 들고와서, 해당 데이터가 있다면 hasNext 변수에 true를 넣어서 알린다.
+
+        // cursor 가 없을 때만 기존 offset 방식
+        if (cursor == null) {
+            query.offset(pageable.getOffset());
+        }
+
         List<TeamListSearch> content;
-        JPAQuery<TeamListSearch> query = queryFactory.select(
+        if (sort.equals(TeamListCursor.SORT_LATEST)) {
+            content = query.orderBy(team.createdDate.desc(), team.id.desc())
+                    .fetch();
+        } else if (sort.equals(TeamListCursor.SORT_WIN_RATE_DESC)) {
+            content = query.orderBy(WIN_RATE.desc(), team.createdDate.desc(), team.id.desc())
+                    .fetch();
+        } else {
+            content = query.orderBy(WIN_RATE.asc(), team.createdDate.desc(), team.id.desc())
+                    .fetch();
+        }
+
+        boolean hasNext = false;
+        if (content.size() > pageable.getPageSize()) {
+            content.remove(pageable.getPageSize());
+            hasNext = true;
+        }
+
+        attachSchedules(content);
+
+        final String nextCursor = hasNext
+                ? TeamListCursor.of(sort, content.get(content.size() - 1)).encode()
+                : null;
+        return new CursorSlice<>(content, pageable, hasNext, nextCursor);
+    }
+
+    // 색인이 고른 한 페이지 분량의 팀만 조회해서 색인 순서대로 돌려준다.
+    private Slice<TeamListSearch> findIndexedPage(
+            final TeamSearchIndex.SearchPage indexed,
+            final String sort,
+            final Pageable pageable) {
+
+        final List<TeamListSearch> content = findInOrder(indexed.getTeamIds());
+        final String nextCursor = indexed.isHasNext() && !indexed.isRelevance() && !content.isEmpty()
+                ? TeamListCursor.of(sort, content.get(content.size() - 1)).encode()
+                : null;
+        return new CursorSlice<>(content, pageable, indexed.isHasNext(), nextCursor);
+    }
+
+    // 반경 검색: geohash prefix 로 주변 칸의 팀만 조회한 뒤 실제 거리로 거르고 가까운 순으로 정렬한다.
+    private Slice<TeamListSearch> findAllNearby(
+            final TeamListSearchCondition searchCondition,
+            final Pageable pageable) {
+
+        final double latitude = searchCondition.getLatitude();
+        final double longitude = searchCondition.getLongitude();
+        final double radius = radiusOf(searchCondition.getRadius());
+
+        final List<Tuple> candidates = queryFactory.select(team.id, team.latitude, team.longitude)
+                .from(team)
+                .where(withinCells(GeoHash.coveringCells(latitude, longitude, radius)),
+                        containsIgnoreCaseTeamName(searchCondition.getInput()),
+                        containsAddress(searchCondition.getAddress()),
+                        eqMatch(searchCondition.getMatch()),
+                        eqRecruit(searchCondition.getRecruit()),
+                        matchWeekdays(searchCondition.getWeekdays()),
+                        matchTime(searchCondition.getTime()),
+                        team.deleted.eq(false))
+                .fetch();
+
+        // 반경 안의 팀 전체는 박싱 없이 (id, 거리) 객체로 정렬하고, 팀 id 목록과 거리 맵은 요청한 페이지 분량만 만든다
+        final List<NearbyTeam> nearby = new ArrayList<>(candidates.size());
+        for (Tuple candidate : candidates) {
+            final double distance = GeoHash.distanceKm(latitude, longitude,
+                    candidate.get(team.latitude), candidate.get(team.longitude));
+            if (distance <= radius) {
+                nearby.add(new NearbyTeam(candidate.get(team.id), distance));
+            }
+        }
+        nearby.sort(NearbyTeam.ORDER);
+
+        final int from = (int) Math.min(pageable.getOffset(), nearby.size());
+        final int to = Math.min(from + pageable.getPageSize(), nearby.size());
+        final List<Long> pageTeamIds = new ArrayList<>(to - from);
+        final Map<Long, Double> distances = new HashMap<>();
+        for (NearbyTeam candidate : nearby.subList(from, to)) {
+            pageTeamIds.add(candidate.teamId);
+            distances.put(candidate.teamId, candidate.distance);
+        }
+
+        final List<TeamListSearch> content = findInOrder(pageTeamIds);
+        content.forEach(c -> c.setDistance(distances.get(c.getTeamId())));
+        return new CursorSlice<>(content, pageable, to < nearby.size(), null);
+    }
+
+    // 한 페이지 분량의 팀 id 를 조회해서 같은 순서로 돌려준다. (그 사이 해체된 팀은 빠진다)
+    // 맵은 페이지 크기만큼이라 박싱된 Long 키를 그대로 쓴다.
+    private List<TeamListSearch> findInOrder(final List<Long> pageTeamIds) {
+        if (pageTeamIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final Map<Long, Integer> position = new HashMap<>();
+        for (int i = 0; i < pageTeamIds.size(); i++) {
+            position.put(pageTeamIds.get(i), i);
+        }
+        final List<TeamListSearch> content = selectTeamListSearch()
+                .where(team.id.in(pageTeamIds), team.deleted.eq(false))
+                .fetch();
+        content.sort(Comparator.comparing((TeamListSearch c) -> position.get(c.getTeamId())));
+        attachSchedules(content);
+        return content;
+    }
+
+    private JPAQuery<TeamListSearch> selectTeamListSearch() {
+        return queryFactory.select(
                         new QTeamListSearch(
                                 team.id,
                                 team.name,
-                                JPAExpressions.select(participation.count())
-                                        .from(participation)
-                                        .where(participation.approved.eq(true)
-                                                , participation.team.id.eq(team.id)),
+                                team.approvedMemberCount.longValue(),
                                 team.mainArea,
                                 team.preferredArea,
                                 team.record.winRate,
@@ -56,64 +200,60 @@ public class TeamQueryRepository {
                                 team.createdDate,
                                 team.modifiedDate))
                 .from(team)
-                .innerJoin(team.record, record)
-                .where(containsIgnoreCaseTeamName(searchCondition.getInput()),   // 팀 이름
-                        containsAddress(searchCondition.getAddress()),  // 주소
-                        eqMatch(searchCondition.getMatch()),    // 대결 등록 상태
-                        eqRecruit(searchCondition.getRecruit()), // 모집 상태
-                        team.deleted.eq(false)  // 팀 해체 상태
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize() + 1); // limit 보다 데이터를 1개 더 들고와서, 해당 데이터가 있다면 hasNext 변수에 true를 넣어서 알린다.
+                .innerJoin(team.record, record);
+    }
 
-        if (searchCondition.getWinRate() == null) {
-            content = query.orderBy(team.createdDate.desc())
-                    .fetch();
-        } else if (searchCondition.getWinRate().equals("desc")) {
-            content = query.orderBy(team.record.winRate.desc(), team.createdDate.desc())
-                    .fetch();
-        } else {
-            content = query.orderBy(team.record.winRate.asc(), team.createdDate.desc())
-                    .fetch();
-        }
+    // 페이지에 포함된 팀들의 요일, 시간대를 IN 쿼리 한 번씩으로 가져온다.
+    // 맵은 페이지 크기만큼이고 팀 id 가 쿼리 결과와 DTO 에서 이미 Long 이라 primitive map 으로 바꿔도 박싱이 줄지 않는다.
+    private void attachSchedules(List<TeamListSearch> content) {
+        final List<Long> teamIds = content.stream()
+                .map(TeamListSearch::getTeamId)
+                .collect(toList());
+        final Map<Long, List<String>> weekdaysByTeamId = this.findWeekdaysByTeamIds(teamIds);
+        final Map<Long, List<String>> timeByTeamId = this.findTimeAllByTeamIds(teamIds);
 
         for (TeamListSearch c : content) {
-            final List<String> weekdays = this.findWeekdaysByTeamId(c.getTeamId());
-            c.setWeekdays(weekdays);
-
-            final List<String> timeList = this.findTimeAllByTeamId(c.getTeamId());
-            c.setTime(timeList);
-        }
-
-        List<TeamListSearch> filteredContent = new ArrayList<>();
-        if (searchCondition.getWeekdays() != null) {
-            content.forEach(c -> {
-                boolean anyMatch = c.getWeekdays()
-                        .stream()
-                        .anyMatch(wd -> searchCondition.getWeekdays().contains(wd));
-                if (anyMatch) {
-                    filteredContent.add(c);
-                }
-            });
-        } else if (searchCondition.getTime() != null) {
-            content.forEach(c -> {
-                boolean anyMatch = c.getTime().stream()
-                        .anyMatch(t -> searchCondition.getTime().contains(t));
-                if (anyMatch) {
-                    filteredContent.add(c);
-                }
-            });
+            c.setWeekdays(weekdaysByTeamId.getOrDefault(c.getTeamId(), new ArrayList<>()));
+            c.setTime(timeByTeamId.getOrDefault(c.getTeamId(), new ArrayList<>()));
         }
+    }
 
-        boolean hasNext = false;
-        if (content.size() > pageable.getPageSize()) {
-            content.remove(pageable.getPageSize());
-            hasNext = true;
+    // geohash 가 주어진 칸 중 하나로 시작하는 팀 (LIKE 'prefix%' 라 geohash 인덱스를 탄다)
+    private BooleanExpression withinCells(Set<String> cells) {
+        return cells.stream()
+                .map(team.geohash::startsWith)
+                .reduce(BooleanExpression::or)
+                .orElse(null);
+    }
+
+    private double radiusOf(Double radius) {
+        if (radius == null || radius <= 0) {
+            return DEFAULT_RADIUS_KM;
+        }
+        return Math.min(radius, MAX_RADIUS_KM);
+    }
+
+    private String sortOf(String winRate) {
+        if (winRate == null) {
+            return TeamListCursor.SORT_LATEST;
         }
+        return winRate.equals("desc") ? TeamListCursor.SORT_WIN_RATE_DESC : TeamListCursor.SORT_WIN_RATE_ASC;
+    }
 
-        content = new ArrayList<>(filteredContent.isEmpty() ? content : filteredContent);
-        return new SliceImpl<>(content, pageable, hasNext);
-//        return new PageImpl<>(content, pageable, content.size());
+    // 정렬 순서상 cursor 행보다 뒤에 오는 행만 (createdDate desc, id desc 는 모든 정렬의 마지막 기준)
+    private BooleanExpression afterCursor(String sort, TeamListCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        final BooleanExpression afterCreated = team.createdDate.lt(cursor.getCreatedDate())
+                .or(team.createdDate.eq(cursor.getCreatedDate()).and(team.id.lt(cursor.getTeamId())));
+        if (sort.equals(TeamListCursor.SORT_LATEST)) {
+            return afterCreated;
+        }
+        final BooleanExpression afterWinRate = sort.equals(TeamListCursor.SORT_WIN_RATE_DESC)
+                ? WIN_RATE.lt(cursor.getWinRate())
+                : WIN_RATE.gt(cursor.getWinRate());
+        return afterWinRate.or(WIN_RATE.eq(cursor.getWinRate()).and(afterCreated));
     }
 
     private BooleanExpression eqMatch(Boolean match) {
@@ -125,6 +265,50 @@ public class TeamQueryRepository {
     }
 
 
+    // 선택한 요일 중 하나라도 활동하는 팀 (availability 비트로 판단, 알 수 없는 요일이 섞이면 EXISTS)
+    private BooleanExpression matchWeekdays(List<String> weekdays) {
+        if (weekdays == null || weekdays.isEmpty()) {
+            return null;
+        }
+        final int mask = Availability.weekdayMask(weekdays);
+        return mask != Availability.UNKNOWN ? anyAvailability(mask) : existsWeekdays(weekdays);
+    }
+
+    // 선택한 시간대 중 하나라도 활동하는 팀 (availability 비트로 판단, 알 수 없는 시간대가 섞이면 EXISTS)
+    private BooleanExpression matchTime(List<String> timeList) {
+        if (timeList == null || timeList.isEmpty()) {
+            return null;
+        }
+        final int mask = Availability.timeMask(timeList);
+        return mask != Availability.UNKNOWN ? anyAvailability(mask) : existsTime(timeList);
+    }
+
+    // 비트 연산이라 인덱스는 타지 않는다. team 행을 읽는 김에 거르는 조건이고, 요일/시간대 테이블 조회를 없애는 게 목적이다
+    private BooleanExpression anyAvailability(int mask) {
+        return Expressions.numberTemplate(Integer.class, "function('bitand', {0}, {1})", team.availability, mask)
+                .ne(0);
+    }
+
+    private BooleanExpression existsWeekdays(List<String> weekdays) {
+        if (weekdays == null || weekdays.isEmpty()) {
+            return null;
+        }
+        return JPAExpressions.selectOne()
+                .from(weekday1)
+                .where(weekday1.team.id.eq(team.id), weekday1.weekday.in(weekdays))
+                .exists();
+    }
+
+    private BooleanExpression existsTime(List<String> timeList) {
+        if (timeList == null || timeList.isEmpty()) {
+            return null;
+        }
+        return JPAExpressions.selectOne()
+                .from(time1)
+                .where(time1.team.id.eq(team.id), time1.time.in(timeList))
+                .exists();
+    }
+
     private BooleanExpression containsIgnoreCaseTeamName(String teamName) {
         return teamName != null ? team.name.containsIgnoreCase(teamName) : null;
     }
@@ -133,18 +317,46 @@ public class TeamQueryRepository {
         return address != null ? team.mainArea.contains(address) : null;
     }
 
-    private List<String> findWeekdaysByTeamId(Long teamId) {
-        return weekdayRepository.findAllByTeamId(teamId)
+    private Map<Long, List<String>> findWeekdaysByTeamIds(List<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return queryFactory.select(weekday1.team.id, weekday1.weekday)
+                .from(weekday1)
+                .where(weekday1.team.id.in(teamIds))
+                .orderBy(weekday1.id.asc())
+                .fetch()
                 .stream()
-                .map(Weekday::getWeekday)
-                .collect(toList());
+                .collect(groupingBy(tuple -> tuple.get(weekday1.team.id),
+                        mapping(tuple -> tuple.get(weekday1.weekday), toList())));
     }
 
-    private List<String> findTimeAllByTeamId(Long teamId) {
-        return timeRepository.findAllByTeamId(teamId)
+    private Map<Long, List<String>> findTimeAllByTeamIds(List<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return queryFactory.select(time1.team.id, time1.time)
+                .from(time1)
+                .where(time1.team.id.in(teamIds))
+                .orderBy(time1.id.asc())
+                .fetch()
                 .stream()
-                .map(Time::getTime)
-                .collect(toList());
+                .collect(groupingBy(tuple -> tuple.get(time1.team.id),
+                        mapping(tuple -> tuple.get(time1.time), toList())));
     }
 
-}
\ No newline at end of file
+    // 반경 검색 후보, 거리 순 (같으면 최근 생성 팀 = id 큰 순)
+    private static final class NearbyTeam {
+        private static final Comparator<NearbyTeam> ORDER = Comparator
+                .comparingDouble((NearbyTeam candidate) -> candidate.distance)
+                .thenComparing(Comparator.comparingLong((NearbyTeam candidate) -> candidate.teamId).reversed());
+
+        private final long teamId;
+        private final double distance;
+
+        private NearbyTeam(long teamId, double distance) {
+            this.teamId = teamId;
+            this.distance = distance;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package me.coldrain.ninetyminute.repository;
+
+import me.coldrain.ninetyminute.dto.RankerTeamView;
+import me.coldrain.ninetyminute.entity.TeamRecordBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface TeamRecordBucketRepository extends JpaRepository<TeamRecordBucket, Long> {
+
+    boolean existsByTeamIdAndPeriod(Long teamId, String period);
+
+    //해당 기간 집계 행이 없을 때만 생성 (동시에 만들어도 unique 제약 위반 없이 한쪽 행이 남는다)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO team_record_bucket (team_id, period, game_count, win_count, lose_count, draw_count, win_point, created_date, modified_date) " +
+            "VALUES (:teamId, :period, 0, 0, 0, 0, 0, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE team_id = team_id", nativeQuery = true)
+    int createIfAbsent(Long teamId, String period, LocalDateTime now);
+
+    //경기 결과 반영 시 같은 행을 동시에 갱신하지 않도록 행 잠금 (행이 있을 때만 호출해서 gap lock 을 피한다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM TeamRecordBucket b WHERE b.team.id = :teamId AND b.period = :period")
+    Optional<TeamRecordBucket> findByTeamIdAndPeriodForUpdate(Long teamId, String period);
+
+    //기간(from ~ to, yyyy-MM) 팀 랭킹 조회, 전체 랭킹과 같이 승점 > 승률 순
+    @Query(value = "SELECT s.teamId AS teamId, s.teamProfileUrl AS teamProfileUrl, s.teamName AS teamName, s.winPoint AS winPoint, " +
+            "DENSE_RANK() OVER (ORDER BY s.winPoint DESC, s.winRate DESC) AS ranking " +
+            "FROM (SELECT t.team_id AS teamId, t.team_profile_url AS teamProfileUrl, t.name AS teamName, " +
+            "SUM(b.win_point) AS winPoint, SUM(b.win_count) * 100.0 / NULLIF(SUM(b.game_count), 0) AS winRate " +
+            "FROM team_record_bucket b INNER JOIN team t ON t.team_id = b.team_id " +
+            "WHERE t.deleted = false AND b.period BETWEEN :from AND :to " +
+            "GROUP BY t.team_id, t.team_profile_url, t.name) s " +
+            "ORDER BY ranking, s.teamId LIMIT :size", nativeQuery = true)
+    List<RankerTeamView> findRankers(String from, String to, int size);
+}
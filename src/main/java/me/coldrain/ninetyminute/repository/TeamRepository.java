@@ -2,9 +2,13 @@ package me.coldrain.ninetyminute.repository;
 
 
 import me.coldrain.ninetyminute.entity.Team;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
@@ -18,9 +22,40 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     @Query("select t from Team t where t.id = :teamId and t.deleted = false")
     Optional<Team> findByIdAndDeletedFalse(final Long teamId);
 
+    //팀 상세 조회용, 전적을 함께 조회
+    @Query("select t from Team t join fetch t.record where t.id = :teamId and t.deleted = false")
+    Optional<Team> findWithRecordById(final Long teamId);
+
     @Query("select t from Team t where t.name = :teamName and t.deleted = false")
     Optional<Team> findByTeamName(String teamName);
 
     @Query("select t from Team t where t.id = :teamId and t.deleted = true")
     Optional<Team> findByIdAndDeletedTrue(Long teamId);
+
+    //랭킹 적재용 전체 팀 조회
+    @Query("select t from Team t join fetch t.record where t.deleted = false")
+    List<Team> findAllWithRecord();
+
+    //검색 색인 적재용 해체되지 않은 전체 팀 조회
+    @Query("select t from Team t where t.deleted = false")
+    List<Team> findAllActive();
+
+    //자동완성 색인 적재 전 팀 이름 prefix 조회 (MariaDB 기본 collation 이 대소문자를 구분하지 않으므로 lower() 없이 인덱스를 탄다)
+    @Query("select t from Team t where t.name like concat(:prefix, '%') and t.deleted = false order by length(t.name), t.name, t.id")
+    List<Team> findAllByNamePrefix(String prefix, Pageable pageable);
+
+    //승인된 팀원 수 증감, 동시 승인/탈퇴에도 값이 유실되지 않도록 DB 에서 직접 더한다
+    @Modifying(flushAutomatically = true)
+    @Query("update Team t set t.approvedMemberCount = t.approvedMemberCount + 1 where t.id = :teamId")
+    int increaseApprovedMemberCount(Long teamId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Team t set t.approvedMemberCount = t.approvedMemberCount - 1 where t.id = :teamId and t.approvedMemberCount > 0")
+    int decreaseApprovedMemberCount(Long teamId);
+
+    //최근 경기 포인터 갱신, 이미 더 늦은 경기가 기록되어 있으면 그대로 둔다
+    @Modifying(flushAutomatically = true)
+    @Query("update Team t set t.lastHistoryId = :historyId, t.lastMatchDate = :matchDate " +
+            "where t.id = :teamId and (t.lastMatchDate is null or t.lastMatchDate <= :matchDate)")
+    int updateLastMatch(Long teamId, Long historyId, Date matchDate);
 }
@@ -0,0 +1,126 @@
+package me.coldrain.ninetyminute.search;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 위도/경도를 geohash 문자열로 변환한다.
+ * 가까운 위치는 같은 prefix 를 가지므로, 일반 B-tree 인덱스에 LIKE 'prefix%' 로 주변 후보만 찾을 수 있다.
+ * 반경 검색은 반경보다 큰 칸(precision)을 골라 중심 칸과 주변 8칸의 prefix 로 후보를 구하고, 실제 거리로 다시 거른다.
+ */
+public final class GeoHash {
+
+    // 저장 정밀도, 7자리 한 칸은 약 150m x 150m
+    public static final int PRECISION = 7;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private GeoHash() {
+    }
+
+    public static boolean isValid(Double latitude, Double longitude) {
+        return latitude != null && longitude != null
+                && latitude >= -90 && latitude <= 90
+                && longitude >= -180 && longitude <= 180;
+    }
+
+    public static String encode(double latitude, double longitude) {
+        return encode(latitude, longitude, PRECISION);
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        final StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;   // 짝수 번째 비트는 경도, 홀수 번째 비트는 위도
+        int bit = 0;
+        int index = 0;
+        while (hash.length() < precision) {
+            if (evenBit) {
+                final double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    index = index * 2 + 1;
+                    minLng = mid;
+                } else {
+                    index = index * 2;
+                    maxLng = mid;
+                }
+            } else {
+                final double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    index = index * 2 + 1;
+                    minLat = mid;
+                } else {
+                    index = index * 2;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(index));
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 중심에서 radiusKm 안의 모든 위치를 포함하는 geohash prefix 목록 (중심 칸 + 주변 8칸, 중복 제거).
+     * 칸의 가로/세로가 모두 반경 이상인 가장 작은 칸을 사용한다.
+     */
+    public static Set<String> coveringCells(double latitude, double longitude, double radiusKm) {
+        final int precision = precisionFor(latitude, radiusKm);
+        final double latStep = latitudeSpan(precision);
+        final double lngStep = longitudeSpan(precision);
+
+        final Set<String> cells = new LinkedHashSet<>();
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            for (int dLng = -1; dLng <= 1; dLng++) {
+                final double lat = Math.max(-90, Math.min(90, latitude + dLat * latStep));
+                double lng = longitude + dLng * lngStep;
+                if (lng < -180) {
+                    lng += 360;
+                } else if (lng > 180) {
+                    lng -= 360;
+                }
+                cells.add(encode(lat, lng, precision));
+            }
+        }
+        return cells;
+    }
+
+    // 두 지점 사이 거리(km, haversine)
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        final double dLat = Math.toRadians(lat2 - lat1);
+        final double dLng = Math.toRadians(lng2 - lng1);
+        final double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static int precisionFor(double latitude, double radiusKm) {
+        final double cos = Math.max(0.01, Math.cos(Math.toRadians(latitude)));
+        for (int precision = PRECISION; precision > 1; precision--) {
+            final double heightKm = latitudeSpan(precision) * KM_PER_DEGREE;
+            final double widthKm = longitudeSpan(precision) * KM_PER_DEGREE * cos;
+            if (Math.min(heightKm, widthKm) >= radiusKm) {
+                return precision;
+            }
+        }
+        return 1;
+    }
+
+    // precision 자리 geohash 한 칸의 위도 폭(도), 전체 비트 중 위도 비트는 floor(5p/2)개
+    private static double latitudeSpan(int precision) {
+        return 180 / Math.pow(2, (5 * precision) / 2);
+    }
+
+    // precision 자리 geohash 한 칸의 경도 폭(도), 경도 비트는 ceil(5p/2)개
+    private static double longitudeSpan(int precision) {
+        return 360 / Math.pow(2, (5 * precision + 1) / 2);
+    }
+}
@@ -0,0 +1,168 @@
+package me.coldrain.ninetyminute.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.coldrain.ninetyminute.dto.response.TeamNameSuggestionResponse;
+import me.coldrain.ninetyminute.entity.Team;
+import me.coldrain.ninetyminute.event.TeamChangedEvent;
+import me.coldrain.ninetyminute.repository.TeamRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 해체되지 않은 팀 이름의 trie. 검색창 자동완성을 DB 조회 없이 처리한다.
+ * 애플리케이션 시작 시 적재하고, 이후에는 TeamChangedEvent 로 변경된 팀만 갱신한다.
+ * 자동완성은 prefix 아래 노드만 방문하고, 요청한 개수가 채워지면 바로 멈춘다. (대소문자 구분 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamNameTrie {
+
+    private final TeamRepository teamRepository;
+
+    private final Node root = new Node();
+    private final Map<Long, String> names = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean loaded = false;
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final List<Team> teams = teamRepository.findAllActive();
+        lock.writeLock().lock();
+        try {
+            root.clear();
+            names.clear();
+            teams.forEach(team -> put(team.getId(), team.getName()));
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("TeamNameTrie loaded. teams = {}", teams.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getTeamId());
+            if (!event.isDeleted()) {
+                put(event.getTeamId(), event.getName());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * prefix 로 시작하는 팀 이름을 최대 size 개 돌려준다.
+     * 짧은 이름(= prefix 와 더 비슷한 이름)이 먼저 오고, 길이가 같으면 사전 순, 이름이 같으면 팀 id 순이다.
+     */
+    public List<TeamNameSuggestionResponse> suggest(String prefix, int size) {
+        final String key = normalize(prefix);
+        if (key == null || size <= 0) {
+            return new ArrayList<>();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return new ArrayList<>();
+            }
+            return collect(node, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 너비 우선으로 내려가서 짧은 이름부터 size 개를 채운다
+    private List<TeamNameSuggestionResponse> collect(Node start, int size) {
+        final List<TeamNameSuggestionResponse> suggestions = new ArrayList<>(size);
+        final Deque<Node> queue = new ArrayDeque<>();
+        queue.add(start);
+        while (!queue.isEmpty() && suggestions.size() < size) {
+            final Node node = queue.poll();
+            for (Long teamId : node.teamIds) {
+                suggestions.add(new TeamNameSuggestionResponse(teamId, names.get(teamId)));
+                if (suggestions.size() == size) {
+                    break;
+                }
+            }
+            queue.addAll(node.children.values());
+        }
+        return suggestions;
+    }
+
+    private void put(Long teamId, String name) {
+        final String key = normalize(name);
+        if (key == null) {
+            return;
+        }
+        names.put(teamId, name);
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        node.teamIds.add(teamId);
+    }
+
+    // 이름이 끝나는 노드에서 팀을 빼고, 더 이상 쓰이지 않는 노드는 잘라낸다
+    private void remove(Long teamId) {
+        final String key = normalize(names.remove(teamId));
+        if (key == null) {
+            return;
+        }
+        final Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            path.push(node);
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null) {
+            return;
+        }
+        node.teamIds.remove(teamId);
+        for (int i = key.length() - 1; i >= 0 && node.isEmpty(); i--) {
+            final Node parent = path.pop();
+            parent.children.remove(key.charAt(i));
+            node = parent;
+        }
+    }
+
+    private static String normalize(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Node {
+        private final NavigableMap<Character, Node> children = new TreeMap<>();
+        private final SortedSet<Long> teamIds = new TreeSet<>();
+
+        private boolean isEmpty() {
+            return children.isEmpty() && teamIds.isEmpty();
+        }
+
+        private void clear() {
+            children.clear();
+            teamIds.clear();
+        }
+    }
+}
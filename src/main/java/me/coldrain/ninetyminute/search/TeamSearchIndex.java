@@ -0,0 +1,295 @@
+package me.coldrain.ninetyminute.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.coldrain.ninetyminute.dto.TeamListCursor;
+import me.coldrain.ninetyminute.dto.TeamListSearchCondition;
+import me.coldrain.ninetyminute.entity.Availability;
+import me.coldrain.ninetyminute.entity.Team;
+import me.coldrain.ninetyminute.event.TeamChangedEvent;
+import me.coldrain.ninetyminute.repository.TeamRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 팀 이름/활동 지역 검색용 2-gram 역색인.
+ * 한글은 형태소 단위로 자르기 어려우므로 글자 2개 단위로 색인하고, 후보를 구한 뒤 실제 포함 여부를 다시 확인한다.
+ * 목록 조건(모집/대결 상태, 활동 요일/시간대), 정렬, 페이지까지 색인 안에서 처리해서 한 페이지 분량의 팀 id 만 돌려준다.
+ * 애플리케이션 시작 시 적재 후 TeamChangedEvent 로 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamSearchIndex {
+
+    private static final int GRAM = 2;
+
+    private static final Comparator<Document> LATEST = Comparator
+            .comparing((Document document) -> document.createdDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(document -> document.teamId)
+            .reversed();
+
+    private final TeamRepository teamRepository;
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> nameGrams = new HashMap<>();
+    private final Map<String, Set<Long>> areaGrams = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean loaded = false;
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final List<Team> teams = teamRepository.findAllWithRecord();
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            nameGrams.clear();
+            areaGrams.clear();
+            teams.forEach(team -> put(TeamChangedEvent.of(team)));
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("TeamSearchIndex loaded. teams = {}", teams.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getTeamId());
+            if (!event.isDeleted()) {
+                put(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 이름에 input, 활동 지역에 address 를 포함하고 목록 조건을 만족하는 팀 중 요청한 페이지의 id 를 정렬 순서대로 돌려준다.
+     * relevance 면 관련도(이름 완전 일치 > 앞부분 일치 > 포함, 같으면 짧은 이름, 팀 id) 순이고 offset 으로 넘긴다.
+     * 아니면 sort(TeamListCursor.SORT_*) 순서이고 cursor 가 있으면 cursor 다음 행부터, 없으면 offset 으로 넘긴다.
+     * 색인 적재 전, 검색어가 없거나 2글자보다 짧을 때, 알 수 없는 요일/시간대가 섞였을 때는 null (DB 에서 조회)
+     */
+    public SearchPage search(TeamListSearchCondition condition, String sort, TeamListCursor cursor, Pageable pageable) {
+        final String name = normalize(condition.getInput());
+        final String area = normalize(condition.getAddress());
+        if (!loaded || (name == null && area == null) || shorterThanGram(name) || shorterThanGram(area)) {
+            return null;
+        }
+        final int weekdayMask = maskOf(condition.getWeekdays(), true);
+        final int timeMask = maskOf(condition.getTime(), false);
+        if (weekdayMask == Availability.UNKNOWN || timeMask == Availability.UNKNOWN) {
+            return null;
+        }
+        final boolean relevance = Boolean.TRUE.equals(condition.getRelevance()) && name != null;
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            if (name != null) {
+                candidates = candidates(nameGrams, name);
+            }
+            if (area != null) {
+                final Set<Long> byArea = candidates(areaGrams, area);
+                candidates = candidates == null ? byArea : intersect(candidates, byArea);
+            }
+
+            final List<Document> matched = new ArrayList<>();
+            for (Long teamId : candidates) {
+                final Document document = documents.get(teamId);
+                if ((name == null || document.name.contains(name))
+                        && (area == null || document.area.contains(area))
+                        && (condition.getRecruit() == null || document.recruit == condition.getRecruit())
+                        && (condition.getMatch() == null || document.matches == condition.getMatch())
+                        && (weekdayMask == 0 || (document.availability & weekdayMask) != 0)
+                        && (timeMask == 0 || (document.availability & timeMask) != 0)) {
+                    matched.add(document);
+                }
+            }
+
+            final Comparator<Document> order = relevance ? relevanceOrder(name) : orderOf(sort);
+            matched.sort(order);
+
+            int from;
+            if (!relevance && cursor != null) {
+                final Document last = new Document(cursor.getTeamId(), "", "", false, false, 0,
+                        cursor.getWinRate() != null ? cursor.getWinRate() : TeamListCursor.NO_WIN_RATE, cursor.getCreatedDate());
+                from = 0;
+                while (from < matched.size() && order.compare(matched.get(from), last) <= 0) {
+                    from++;
+                }
+            } else {
+                from = (int) Math.min(pageable.getOffset(), matched.size());
+            }
+            final int to = Math.min(from + pageable.getPageSize(), matched.size());
+
+            final List<Long> teamIds = new ArrayList<>(to - from);
+            matched.subList(from, to).forEach(document -> teamIds.add(document.teamId));
+            return new SearchPage(teamIds, to < matched.size(), relevance);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 목록 정렬과 같은 순서, 마지막 기준은 항상 createdDate desc, id desc (TeamQueryRepository 참고)
+    private static Comparator<Document> orderOf(String sort) {
+        if (TeamListCursor.SORT_WIN_RATE_DESC.equals(sort)) {
+            return Comparator.comparingDouble((Document document) -> document.winRate).reversed().thenComparing(LATEST);
+        }
+        if (TeamListCursor.SORT_WIN_RATE_ASC.equals(sort)) {
+            return Comparator.comparingDouble((Document document) -> document.winRate).thenComparing(LATEST);
+        }
+        return LATEST;
+    }
+
+    private static Comparator<Document> relevanceOrder(String name) {
+        return Comparator.comparingInt((Document document) -> -document.score(name))
+                .thenComparingInt(document -> document.name.length())
+                .thenComparing(document -> document.teamId);
+    }
+
+    private Set<Long> candidates(Map<String, Set<Long>> index, String query) {
+        Set<Long> result = null;
+        for (String gram : grams(query)) {
+            final Set<Long> postings = index.getOrDefault(gram, Collections.emptySet());
+            result = result == null ? new HashSet<>(postings) : intersect(result, postings);
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static Set<Long> intersect(Set<Long> left, Set<Long> right) {
+        final Set<Long> smaller = left.size() <= right.size() ? left : right;
+        final Set<Long> larger = smaller == left ? right : left;
+        final Set<Long> result = new HashSet<>();
+        for (Long teamId : smaller) {
+            if (larger.contains(teamId)) {
+                result.add(teamId);
+            }
+        }
+        return result;
+    }
+
+    private void put(TeamChangedEvent event) {
+        final Document document = new Document(
+                event.getTeamId(),
+                Objects.toString(normalize(event.getName()), ""),
+                Objects.toString(normalize(event.getMainArea()), ""),
+                event.isRecruit(),
+                event.isMatches(),
+                event.getAvailability(),
+                event.getWinRate(),
+                event.getCreatedDate());
+        documents.put(document.teamId, document);
+        grams(document.name).forEach(gram -> nameGrams.computeIfAbsent(gram, key -> new HashSet<>()).add(document.teamId));
+        grams(document.area).forEach(gram -> areaGrams.computeIfAbsent(gram, key -> new HashSet<>()).add(document.teamId));
+    }
+
+    private void remove(Long teamId) {
+        final Document previous = documents.remove(teamId);
+        if (previous != null) {
+            removePostings(nameGrams, grams(previous.name), teamId);
+            removePostings(areaGrams, grams(previous.area), teamId);
+        }
+    }
+
+    private static void removePostings(Map<String, Set<Long>> index, Set<String> grams, Long teamId) {
+        for (String gram : grams) {
+            final Set<Long> postings = index.get(gram);
+            if (postings != null) {
+                postings.remove(teamId);
+                if (postings.isEmpty()) {
+                    index.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        final Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    // 2글자보다 짧은 검색어는 색인으로 후보를 줄일 수 없으므로 DB 의 LIKE 로 넘긴다
+    private static boolean shorterThanGram(String query) {
+        return query != null && query.length() < GRAM;
+    }
+
+    // 조건이 없으면 0, 알 수 없는 값이 섞이면 UNKNOWN
+    private static int maskOf(List<String> values, boolean weekday) {
+        if (values == null || values.isEmpty()) {
+            return 0;
+        }
+        return weekday ? Availability.weekdayMask(values) : Availability.timeMask(values);
+    }
+
+    // 대소문자 구분 없이, 빈 검색어는 조건 없음(null)
+    private static String normalize(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 한 페이지 분량의 팀 id (정렬 순서), 다음 페이지 여부
+    @Getter
+    @RequiredArgsConstructor
+    public static class SearchPage {
+        private final List<Long> teamIds;
+        private final boolean hasNext;
+        private final boolean relevance;
+    }
+
+    private static class Document {
+        private final Long teamId;
+        private final String name;
+        private final String area;
+        private final boolean recruit;
+        private final boolean matches;
+        private final int availability;
+        private final double winRate;
+        private final LocalDateTime createdDate;
+
+        private Document(Long teamId, String name, String area, boolean recruit, boolean matches, int availability,
+                         double winRate, LocalDateTime createdDate) {
+            this.teamId = teamId;
+            this.name = name;
+            this.area = area;
+            this.recruit = recruit;
+            this.matches = matches;
+            this.availability = availability;
+            this.winRate = winRate;
+            this.createdDate = createdDate;
+        }
+
+        private int score(String query) {
+            if (name.equals(query)) {
+                return 3;
+            }
+            return name.startsWith(query) ? 2 : 1;
+        }
+    }
+}
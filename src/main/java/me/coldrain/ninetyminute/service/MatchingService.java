@@ -1,30 +1,45 @@
 package me.coldrain.ninetyminute.service;
 
 import lombok.RequiredArgsConstructor;
+import me.coldrain.ninetyminute.dto.ApprovedMatchView;
+import me.coldrain.ninetyminute.dto.CursorSlice;
+import me.coldrain.ninetyminute.dto.MatchListCursor;
+import me.coldrain.ninetyminute.dto.MyTeamView;
+import me.coldrain.ninetyminute.dto.OfferMatchView;
 import me.coldrain.ninetyminute.dto.request.ApprovedMatchRequest;
 import me.coldrain.ninetyminute.dto.request.MatchMemberRequest;
 import me.coldrain.ninetyminute.dto.request.MatchResultRequest;
 import me.coldrain.ninetyminute.dto.request.MatchScoreRequest;
 import me.coldrain.ninetyminute.dto.response.*;
 import me.coldrain.ninetyminute.entity.*;
+import me.coldrain.ninetyminute.event.MemberChangedEvent;
+import me.coldrain.ninetyminute.event.TeamChangedEvent;
+import me.coldrain.ninetyminute.rank.RankDimension;
 import me.coldrain.ninetyminute.repository.*;
 import org.apache.commons.lang3.time.DateFormatUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Date;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MatchingService {
 
+    // 대결 신청/예정 대결/소속 팀 목록 페이지 크기
+    private static final int MATCH_LIST_SIZE = 20;
+    private static final int MAX_MATCH_LIST_SIZE = 50;
+
     private final MemberRepository memberRepository;
     private final ParticipationRepository participationRepository;
     private final TeamRepository teamRepository;
@@ -35,6 +50,9 @@ public class MatchingService {
     private final SubstituteRepository substituteRepository;
     private final ScorerRepository scorerRepository;
     private final HistoryRepository historyRepository;
+    private final TeamRecordBucketRepository teamRecordBucketRepository;
+    private final MemberPointBucketRepository memberPointBucketRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public String approveApplyMatch(Long applyTeamId, Long applyId, ApprovedMatchRequest approvedMatchRequest, Member member) {
@@ -56,6 +74,8 @@ public class MatchingService {
                         .apply(applyMatch)
                         .matchDate(approvedMatchRequest.getMatchDate())
                         .location(approvedMatchRequest.getMatchLocation())
+                        .latitude(approvedMatchRequest.getMatchLatitude())
+                        .longitude(approvedMatchRequest.getMatchLongitude())
                         .opposingTeamName(opposingTeamName)
                         .teamName(teamName)
                         .build();
@@ -80,148 +100,218 @@ public class MatchingService {
 
 
     public List<OfferMatchResponse> searchOfferMatches(Long teamId, Member member) {
-        List<OfferMatchResponse> offerMatchResponseList = new ArrayList<>();
         if (member.getOpenTeam().getId().equals(teamId)) {
-            List<Apply> applyList = applyRepository.findAllByTeamIdOrderByCreatedDate(teamId);
-            // 해당 팀에 신청된 경기가 없어도 null이 전달되야한다.
-            if (!applyList.isEmpty()) {
-                for (Apply apply : applyList) {
-                    Member opposingTeamCaptain = memberRepository.findByOpenTeam(apply.getApplyTeam().getId()).orElse(null);
-                    if (opposingTeamCaptain == null) continue;
-                    OfferMatchResponse offerMatchResponse = OfferMatchResponse.builder()
-                            .applyId(apply.getId())
-                            .opposingTeamId(apply.getApplyTeam().getId())
-                            .opposingTeamName(apply.getApplyTeam().getName())
-                            .contact(opposingTeamCaptain.getContact())
-                            .phone(opposingTeamCaptain.getPhone())
-                            .opposingTeamPoint(apply.getApplyTeam().getRecord().getWinPoint())
-                            .winRate(apply.getApplyTeam().getRecord().getWinRate())
-                            .greeting(apply.getGreeting())
-                            .createdDate(apply.getCreatedDate())
-                            .modifiedDate(apply.getModifiedDate())
-                            .build();
-                    offerMatchResponseList.add(offerMatchResponse);
-                }
-            }
-            return offerMatchResponseList;
+            MatchListCursor first = MatchListCursor.decode(null);
+            return offerMatchResponsesOf(applyRepository.findOfferPage(teamId, first.getDate(), first.getId(), Pageable.unpaged()));
         } else throw new IllegalArgumentException("이 팀의 주장이 아닙니다.");
     }
 
+    public CursorSlice<OfferMatchResponse> searchOfferMatchPage(Long teamId, Member member, String cursor, Integer size) {
+        if (member.getOpenTeam().getId().equals(teamId)) {
+            MatchListCursor after = MatchListCursor.decode(cursor);
+            int pageSize = matchListSizeOf(size);
+            List<OfferMatchView> rows = applyRepository.findOfferPage(teamId, after.getDate(), after.getId(), PageRequest.of(0, pageSize + 1));
+            boolean hasNext = rows.size() > pageSize;
+            List<OfferMatchView> offers = hasNext ? rows.subList(0, pageSize) : rows;
+            // 주장이 없어 건너뛴 행이 있어도 cursor 는 조회한 마지막 행 기준
+            String nextCursor = hasNext
+                    ? nextCursorOf(offers, OfferMatchView::getCreatedDate, OfferMatchView::getApplyId)
+                    : null;
+            return new CursorSlice<>(offerMatchResponsesOf(offers), PageRequest.of(0, pageSize), hasNext, nextCursor);
+        } else throw new IllegalArgumentException("이 팀의 주장이 아닙니다.");
+    }
+
+    private List<OfferMatchResponse> offerMatchResponsesOf(List<OfferMatchView> offers) {
+        List<OfferMatchResponse> offerMatchResponseList = new ArrayList<>();
+        // 해당 팀에 신청된 경기가 없어도 null이 전달되야한다.
+        if (offers.isEmpty()) {
+            return offerMatchResponseList;
+        }
+        // 신청 팀 주장은 한 번에 조회
+        Map<Long, Member> captains = findCaptains(offers.stream()
+                .map(OfferMatchView::getOpposingTeamId)
+                .collect(Collectors.toSet()));
+        for (OfferMatchView offer : offers) {
+            Member opposingTeamCaptain = captains.get(offer.getOpposingTeamId());
+            if (opposingTeamCaptain == null) continue;
+            OfferMatchResponse offerMatchResponse = OfferMatchResponse.builder()
+                    .applyId(offer.getApplyId())
+                    .opposingTeamId(offer.getOpposingTeamId())
+                    .opposingTeamName(offer.getOpposingTeamName())
+                    .contact(opposingTeamCaptain.getContact())
+                    .phone(opposingTeamCaptain.getPhone())
+                    .opposingTeamPoint(offer.getOpposingTeamPoint())
+                    .winRate(offer.getWinRate())
+                    .greeting(offer.getGreeting())
+                    .createdDate(offer.getCreatedDate())
+                    .modifiedDate(offer.getModifiedDate())
+                    .build();
+            offerMatchResponseList.add(offerMatchResponse);
+        }
+        return offerMatchResponseList;
+    }
+
     public List<MatchResponse> searchMatches(Long teamId, Member member) {
         Participation participation = participationRepository.findByMemberIdAndTeamIdTrue(member.getId(), teamId).orElse(null);
-        List<Apply> applyList = applyRepository.findAllByApprovedMatches(teamId);    // approved = true
-        List<MatchResponse> matchResponseList = new ArrayList<>();
         if (participation != null) {
-            for (Apply apply : applyList) {
-                BeforeMatching beforeMatching = beforeMatchingRepository.findByApplyId(apply.getId()).orElseThrow(
-                        () -> new IllegalArgumentException("성사된 대결이 존재하지 않습니다."));
-                LocalDateTime from = LocalDateTime.now();
-                LocalDateTime to = LocalDateTime.ofInstant(beforeMatching.getMatchDate().toInstant(), ZoneId.systemDefault());
-                if (apply.getTeam().getId().equals(teamId)) {   // 내 팀이 home team 인 경우
-                    MatchResponse matchResponse = MatchResponse.builder()
-                            .matchId(beforeMatching.getId())
-                            .teamId(teamId)
-                            .isCaptain(false)
-                            .opposingTeamId(apply.getApplyTeam().getId())
-                            .opposingTeamName(apply.getApplyTeam().getName())
-                            .opposingTeamMemberCount(participationRepository.findAllByTeamIdTrue(apply.getApplyTeam().getId()).size())
-                            .opposingTeamPoint(apply.getApplyTeam().getRecord().getWinPoint())
-                            .opposingTeamTotalGameCount(apply.getApplyTeam().getRecord().getTotalGameCount())
-                            .opposingTeamWinRate(apply.getApplyTeam().getRecord().getWinRate())
-                            .opposingTeamWinCount(apply.getApplyTeam().getRecord().getWinCount())
-                            .opposingTeamDrawCount(apply.getApplyTeam().getRecord().getDrawCount())
-                            .opposingTeamLoseCount(apply.getApplyTeam().getRecord().getLoseCount())
-                            .matchLocation(beforeMatching.getLocation())
-                            .contact(null)
-                            .phone(null)
-                            .matchDate(beforeMatching.calculatedDate())
-                            .dDay(ChronoUnit.DAYS.between(from, to))
-                            .createdDate(beforeMatching.getCreatedDate())
-                            .modifiedDate(beforeMatching.getModifiedDate())
-                            .matchStatus(true)
-                            .build();
-                    if (member.getOpenTeam() != null) {
-                        if (member.getOpenTeam().getId().equals(teamId)) { // home team 이며 주장 일때
-                            matchResponse.changeIsCaptain(true);
-                            matchResponse.updateContact(memberRepository.findByOpenTeam(apply.getApplyTeam().getId()).orElseThrow(
-                                    () -> new IllegalArgumentException("해당 멤버를 찾을 수 없습니다.")).getContact());
-                            matchResponse.updatePhone(memberRepository.findByOpenTeam(apply.getApplyTeam().getId()).orElseThrow(
-                                    () -> new IllegalArgumentException("해당 멤버를 찾을 수 없습니다.")).getPhone());
-                        }
-                    }
-                    matchResponseList.add(matchResponse);
-                } else {   // 내 팀이 away team 인 경우
-                    MatchResponse matchResponse = MatchResponse.builder()
-                            .matchId(beforeMatching.getId())
-                            .teamId(teamId)
-                            .isCaptain(false)
-                            .opposingTeamId(apply.getTeam().getId())
-                            .opposingTeamName(apply.getTeam().getName())
-                            .opposingTeamMemberCount(participationRepository.findAllByTeamIdTrue(apply.getTeam().getId()).size())
-                            .opposingTeamPoint(apply.getTeam().getRecord().getWinPoint())
-                            .opposingTeamTotalGameCount(apply.getApplyTeam().getRecord().getTotalGameCount())
-                            .opposingTeamWinRate(apply.getTeam().getRecord().getWinRate())
-                            .opposingTeamWinCount(apply.getTeam().getRecord().getWinCount())
-                            .opposingTeamDrawCount(apply.getTeam().getRecord().getDrawCount())
-                            .opposingTeamLoseCount(apply.getTeam().getRecord().getLoseCount())
-                            .matchLocation(beforeMatching.getLocation())
-                            .contact(null)
-                            .phone(null)
-                            .matchDate(beforeMatching.calculatedDate())
-                            .dDay(ChronoUnit.DAYS.between(from, to))
-                            .createdDate(beforeMatching.getCreatedDate())
-                            .modifiedDate(beforeMatching.getModifiedDate())
-                            .matchStatus(true)
-                            .build();
-                    if (member.getOpenTeam() != null) {
-                        if (member.getOpenTeam().getId().equals(teamId)) {  // away team 이며 주장 일때
-                            matchResponse.changeIsCaptain(true);
-                            matchResponse.updateContact(memberRepository.findByOpenTeam(apply.getTeam().getId()).orElseThrow(
-                                    () -> new IllegalArgumentException("해당 멤버를 찾을 수 없습니다.")).getContact());
-                            matchResponse.updatePhone(memberRepository.findByOpenTeam(apply.getTeam().getId()).orElseThrow(
-                                    () -> new IllegalArgumentException("해당 멤버를 찾을 수 없습니다.")).getPhone());
-                        }
-                    }
-                    matchResponseList.add(matchResponse);
+            MatchListCursor first = MatchListCursor.decode(null);
+            List<ApprovedMatchView> matches = applyRepository.findApprovedMatchPage(teamId, first.getDate(), first.getId(), Pageable.unpaged());    // approved = true
+            return matchResponsesOf(teamId, member, matches);
+        } else throw new IllegalArgumentException("이 팀에 참여한 멤버가 아닙니다.");
+    }
+
+    public CursorSlice<MatchResponse> searchMatchPage(Long teamId, Member member, String cursor, Integer size) {
+        Participation participation = participationRepository.findByMemberIdAndTeamIdTrue(member.getId(), teamId).orElse(null);
+        if (participation != null) {
+            MatchListCursor after = MatchListCursor.decode(cursor);
+            int pageSize = matchListSizeOf(size);
+            List<ApprovedMatchView> rows = applyRepository.findApprovedMatchPage(teamId, after.getDate(), after.getId(), PageRequest.of(0, pageSize + 1));    // approved = true
+            boolean hasNext = rows.size() > pageSize;
+            List<ApprovedMatchView> matches = hasNext ? rows.subList(0, pageSize) : rows;
+            String nextCursor = hasNext
+                    ? nextCursorOf(matches, ApprovedMatchView::getCreatedDate, ApprovedMatchView::getApplyId)
+                    : null;
+            return new CursorSlice<>(matchResponsesOf(teamId, member, matches), PageRequest.of(0, pageSize), hasNext, nextCursor);
+        } else throw new IllegalArgumentException("이 팀에 참여한 멤버가 아닙니다.");
+    }
+
+    private List<MatchResponse> matchResponsesOf(Long teamId, Member member, List<ApprovedMatchView> matches) {
+        List<MatchResponse> matchResponseList = new ArrayList<>();
+        // 경기 정보와 (주장일 때) 상대 팀 주장은 한 번에 조회
+        Map<Long, BeforeMatching> beforeMatchings = findBeforeMatchings(matches.stream()
+                .map(ApprovedMatchView::getApplyId)
+                .collect(Collectors.toList()));
+        boolean captain = member.getOpenTeam() != null && member.getOpenTeam().getId().equals(teamId);
+        Map<Long, Member> captains = captain
+                ? findCaptains(matches.stream()
+                        .map(ApprovedMatchView::getOpposingTeamId)
+                        .collect(Collectors.toSet()))
+                : Collections.emptyMap();
+        for (ApprovedMatchView match : matches) {
+            BeforeMatching beforeMatching = beforeMatchings.get(match.getApplyId());
+            if (beforeMatching == null) {
+                throw new IllegalArgumentException("성사된 대결이 존재하지 않습니다.");
+            }
+            LocalDateTime from = LocalDateTime.now();
+            LocalDateTime to = LocalDateTime.ofInstant(beforeMatching.getMatchDate().toInstant(), ZoneId.systemDefault());
+            MatchResponse matchResponse = MatchResponse.builder()
+                    .matchId(beforeMatching.getId())
+                    .teamId(teamId)
+                    .isCaptain(false)
+                    .opposingTeamId(match.getOpposingTeamId())
+                    .opposingTeamName(match.getOpposingTeamName())
+                    .opposingTeamMemberCount(match.getOpposingTeamMemberCount())
+                    .opposingTeamPoint(match.getOpposingTeamPoint())
+                    .opposingTeamTotalGameCount(match.getOpposingTeamTotalGameCount())
+                    .opposingTeamWinRate(match.getOpposingTeamWinRate())
+                    .opposingTeamWinCount(match.getOpposingTeamWinCount())
+                    .opposingTeamDrawCount(match.getOpposingTeamDrawCount())
+                    .opposingTeamLoseCount(match.getOpposingTeamLoseCount())
+                    .matchLocation(beforeMatching.getLocation())
+                    .contact(null)
+                    .phone(null)
+                    .matchDate(beforeMatching.calculatedDate())
+                    .dDay(ChronoUnit.DAYS.between(from, to))
+                    .createdDate(beforeMatching.getCreatedDate())
+                    .modifiedDate(beforeMatching.getModifiedDate())
+                    .matchStatus(true)
+                    .build();
+            if (captain) {  // 주장 일때 상대 팀 주장 연락처
+                matchResponse.changeIsCaptain(true);
+                Member opposingTeamCaptain = captains.get(match.getOpposingTeamId());
+                if (opposingTeamCaptain == null) {
+                    throw new IllegalArgumentException("해당 멤버를 찾을 수 없습니다.");
                 }
+                matchResponse.updateContact(opposingTeamCaptain.getContact());
+                matchResponse.updatePhone(opposingTeamCaptain.getPhone());
             }
-            return matchResponseList;
-        } else throw new IllegalArgumentException("이 팀에 참여한 멤버가 아닙니다.");
+            matchResponseList.add(matchResponse);
+        }
+        return matchResponseList;
+    }
+
+    // 팀 id -> 주장, 해체된 팀의 주장은 포함하지 않는다
+    private Map<Long, Member> findCaptains(Set<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return memberRepository.findAllByOpenTeamIds(teamIds).stream()
+                .collect(Collectors.toMap(captain -> captain.getOpenTeam().getId(), Function.identity(), (a, b) -> a));
+    }
+
+    // 신청 id -> 경기 전 정보
+    private Map<Long, BeforeMatching> findBeforeMatchings(List<Long> applyIds) {
+        if (applyIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return beforeMatchingRepository.findAllByApplyIds(applyIds).stream()
+                .collect(Collectors.toMap(beforeMatching -> beforeMatching.getApply().getId(), Function.identity(), (a, b) -> a));
     }
 
     public List<ParticipationTeamMatchResponse> searchMyTeams(Long memberId, Member member) {
-        List<Participation> ParticipationList = participationRepository.findAllByMembersTrue(memberId);
+        MatchListCursor first = MatchListCursor.decode(null);
+        return myTeamResponsesOf(memberId, participationRepository.findMyTeamPage(memberId, first.getDate(), first.getId(), Pageable.unpaged()));
+    }
+
+    public CursorSlice<ParticipationTeamMatchResponse> searchMyTeamPage(Long memberId, Member member, String cursor, Integer size) {
+        MatchListCursor after = MatchListCursor.decode(cursor);
+        int pageSize = matchListSizeOf(size);
+        List<MyTeamView> rows = participationRepository.findMyTeamPage(memberId, after.getDate(), after.getId(), PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<MyTeamView> myTeams = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext
+                ? nextCursorOf(myTeams, MyTeamView::getCreatedDate, MyTeamView::getParticipationId)
+                : null;
+        return new CursorSlice<>(myTeamResponsesOf(memberId, myTeams), PageRequest.of(0, pageSize), hasNext, nextCursor);
+    }
+
+    private List<ParticipationTeamMatchResponse> myTeamResponsesOf(Long memberId, List<MyTeamView> myTeams) {
         List<ParticipationTeamMatchResponse> participationTeamMatchResponseList = new ArrayList<>();
+        if (myTeams.isEmpty()) {
+            return participationTeamMatchResponseList;
+        }
+
+        // 회원의 개설 팀과 예정된 대결이 있는 팀은 한 번에 조회
+        Team openTeam = memberRepository.findById(memberId).orElseThrow(
+                () -> new IllegalArgumentException("이 회원은 존재하지 않습니다.")).getOpenTeam();
+        Long openTeamId = openTeam != null ? openTeam.getId() : null;
+        Set<Long> matchingTeamIds = new HashSet<>(beforeMatchingRepository.findTeamIdsWithUpcomingMatch(myTeams.stream()
+                .map(MyTeamView::getTeamId)
+                .collect(Collectors.toList())));
 
-        for (Participation participation : ParticipationList) {
-            Boolean isCaptain = memberRepository.findById(memberId).orElseThrow(
-                    () -> new IllegalArgumentException("이 회원은 존재하지 않습니다.")).getOpenTeam().getId().equals(participation.getTeam().getId());
-            Integer teamMemberCnt = participationRepository.findAllByTeamIdTrue(participation.getTeam().getId()).size();
+        for (MyTeamView myTeam : myTeams) {
             ParticipationTeamMatchResponse participationTeamMatchResponse = ParticipationTeamMatchResponse.builder()
-                    .teamId(participation.getTeam().getId())
-                    .isCaptain(isCaptain)
-                    .teamName(participation.getTeam().getName())
-                    .teamMemberCount(teamMemberCnt)
-                    .teamPoint(participation.getTeam().getRecord().getWinPoint())
-                    .teamWinRate(participation.getTeam().getRecord().getWinRate())
-                    .teamTotalGameCount(participation.getTeam().getRecord().getTotalGameCount())
-                    .teamWinCount(participation.getTeam().getRecord().getWinCount())
-                    .teamDrawCount(participation.getTeam().getRecord().getDrawCount())
-                    .teamLoseCount(participation.getTeam().getRecord().getLoseCount())
-                    .matchLocation(participation.getTeam().getMainArea())
-                    .createdDate(participation.getCreatedDate())
-                    .modifiedDate(participation.getModifiedDate())
-                    .matchStatus(false)
+                    .teamId(myTeam.getTeamId())
+                    .isCaptain(myTeam.getTeamId().equals(openTeamId))
+                    .teamName(myTeam.getTeamName())
+                    .teamMemberCount(myTeam.getTeamMemberCount())
+                    .teamPoint(myTeam.getTeamPoint())
+                    .teamWinRate(myTeam.getTeamWinRate())
+                    .teamTotalGameCount(myTeam.getTeamTotalGameCount())
+                    .teamWinCount(myTeam.getTeamWinCount())
+                    .teamDrawCount(myTeam.getTeamDrawCount())
+                    .teamLoseCount(myTeam.getTeamLoseCount())
+                    .matchLocation(myTeam.getMainArea())
+                    .createdDate(myTeam.getCreatedDate())
+                    .modifiedDate(myTeam.getModifiedDate())
+                    .matchStatus(matchingTeamIds.contains(myTeam.getTeamId()))
                     .build();
-            List<BeforeMatching> beforeMatchingList = beforeMatchingRepository.findAllMatches(participation.getTeam().getId());
-            if (!beforeMatchingList.isEmpty()) {
-                participationTeamMatchResponse.changeMatchStatus(true);
-                participationTeamMatchResponseList.add(participationTeamMatchResponse);
-            } else participationTeamMatchResponseList.add(participationTeamMatchResponse);
+            participationTeamMatchResponseList.add(participationTeamMatchResponse);
         }
         return participationTeamMatchResponseList;
     }
 
+    // 요청 size 가 없으면 기본값, 최대값을 넘으면 최대값
+    private static int matchListSizeOf(Integer size) {
+        return size == null || size <= 0 ? MATCH_LIST_SIZE : Math.min(size, MAX_MATCH_LIST_SIZE);
+    }
+
+    // 페이지 마지막 행의 (날짜, id) 로 다음 페이지 cursor 생성
+    private static <T> String nextCursorOf(List<T> page, Function<T, LocalDateTime> date, Function<T, Long> id) {
+        T last = page.get(page.size() - 1);
+        return new MatchListCursor(date.apply(last), id.apply(last)).encode();
+    }
+
     public MatchResponse searchApprovedMatchDetail(Long teamId, Long matchId, Member member) {
         Participation participation = participationRepository.findByMemberIdAndTeamIdTrue(member.getId(), teamId).orElse(null);
 
@@ -466,12 +556,16 @@ public class MatchingService {
                                 () -> new IllegalArgumentException("해당 팀에 속해 있는 선수가 아닙니다.")).getMember();
                         afterMatching.editMVPNickname(mvpPlayer.getNickname());
                         mvpPlayer.getAbility().updateMVPPoint();
+                        memberPointBucketOf(mvpPlayer, periodOf(beforeMatching)).addPoint(RankDimension.MVP.getKey());
+                        eventPublisher.publishEvent(MemberChangedEvent.of(mvpPlayer));
                     }
                     if (matchResultRequest.getMoodMaker() != null) {
                         Member moodMaker = participationRepository.findByMemberIdAndTeamIdTrue(matchResultRequest.getMoodMaker(), member.getOpenTeam().getId()).orElseThrow(
                                 () -> new IllegalArgumentException("해당 팀에 속해 있는 선수가 아닙니다.")).getMember();
                         afterMatching.editMoodMaker(moodMaker.getNickname());
                         moodMaker.getAbility().updateCharmingPoint();
+                        memberPointBucketOf(moodMaker, periodOf(beforeMatching)).addPoint(RankDimension.CHARMING.getKey());
+                        eventPublisher.publishEvent(MemberChangedEvent.of(moodMaker));
                     }
                 } else if (member.getOpenTeam().getId().equals(beforeMatching.getApply().getApplyTeam().getId())) {
                     if (afterMatching.getOpponentScore() == matchResultRequest.getScorers().size()) {
@@ -504,12 +598,16 @@ public class MatchingService {
                                 () -> new IllegalArgumentException("해당 팀에 속해 있는 선수가 아닙니다.")).getMember();
                         afterMatching.editOpponentMVPNickname(mvpPlayer.getNickname());
                         mvpPlayer.getAbility().updateMVPPoint();
+                        memberPointBucketOf(mvpPlayer, periodOf(beforeMatching)).addPoint(RankDimension.MVP.getKey());
+                        eventPublisher.publishEvent(MemberChangedEvent.of(mvpPlayer));
                     }
                     if (matchResultRequest.getMoodMaker() != null) {
                         Member moodMaker = participationRepository.findByMemberIdAndTeamIdTrue(matchResultRequest.getMoodMaker(), member.getOpenTeam().getId()).orElseThrow(
                                 () -> new IllegalArgumentException("해당 팀에 속해 있는 선수가 아닙니다.")).getMember();
                         afterMatching.editOpponentMoodMaker(moodMaker.getNickname());
                         moodMaker.getAbility().updateCharmingPoint();
+                        memberPointBucketOf(moodMaker, periodOf(beforeMatching)).addPoint(RankDimension.CHARMING.getKey());
+                        eventPublisher.publishEvent(MemberChangedEvent.of(moodMaker));
                     }
                 }
                 distributePoint(member.getOpenTeam().getId(), afterMatching.getId());
@@ -522,6 +620,12 @@ public class MatchingService {
                             .opposingTeam(afterMatching.getBeforeMatching().getApply().getApplyTeam())
                             .build();
                     historyRepository.save(saveHistory);
+                    // 두 팀 모두 최근 경기가 바뀌므로 포인터를 갱신하고 상대 팀도 변경 이벤트 발행
+                    final Date matchDate = saveHistory.getBeforeMatching().getMatchDate();
+                    teamRepository.updateLastMatch(saveHistory.getTeam().getId(), saveHistory.getId(), matchDate);
+                    teamRepository.updateLastMatch(saveHistory.getOpposingTeam().getId(), saveHistory.getId(), matchDate);
+                    eventPublisher.publishEvent(TeamChangedEvent.of(saveHistory.getTeam()));
+                    eventPublisher.publishEvent(TeamChangedEvent.of(saveHistory.getOpposingTeam()));
                 }
             } else throw new IllegalArgumentException("해당 팀의 주장이 아닙니다.");
         } else throw new IllegalArgumentException("상대 팀이 결과를 인정하지 않았습니다.");
@@ -533,62 +637,72 @@ public class MatchingService {
         AfterMatching afterMatching = afterMatchingRepository.findById(afterMatchingId).orElseThrow(() -> new IllegalArgumentException("성사된 대결이 존재하지 않습니다."));
         Team team = teamRepository.findByIdAndDeletedFalse(teamId).orElseThrow(() -> new IllegalArgumentException("해당 팀을 찾을 수 없습니다."));
         team.getRecord().updateTotalGameCount();
+        String period = periodOf(afterMatching.getBeforeMatching());
+        TeamRecordBucket bucket = teamRecordBucketOf(team, period);
         List<FieldMember> fieldMembers = fieldMemberRepository.findAllByMatchFieldMembersAndAnonymousFalse(team.getId(), afterMatching.getBeforeMatching().getId());
 
         if (team.getName().equals(afterMatching.getBeforeMatching().getTeamName())) {
             if (afterMatching.getScore() > afterMatching.getOpponentScore()) {
                 afterMatching.editResult(results.get(0), results.get(2));
-                for (FieldMember fieldMember : fieldMembers) {
-                    distributePositionPoint(fieldMember);
-                }
                 List<SubstituteMember> substituteMembers = substituteRepository.findAllByMatchSubstituteMembersAndAnonymousFalse(team.getId(), afterMatching.getId());
-                for (SubstituteMember substituteMember : substituteMembers) {
-                    distributePositionPoint(substituteMember);
-                }
+                distributePositionPoints(fieldMembers, substituteMembers, period);
                 team.getRecord().updateWinCount();
+                bucket.addWin();
                 team.getRecord().updateWinRate(((double) (team.getRecord().getWinCount() / team.getRecord().getTotalGameCount())) * 100.0);
             } else if (afterMatching.getScore() < afterMatching.getOpponentScore()) {
                 afterMatching.editResult(results.get(2), results.get(0));
-                for (FieldMember fieldMember : fieldMembers) {
-                    distributePositionPoint(fieldMember);
-                }
                 List<SubstituteMember> substituteMembers = substituteRepository.findAllByMatchSubstituteMembersAndAnonymousFalse(team.getId(), afterMatching.getId());
-                for (SubstituteMember substituteMember : substituteMembers) {
-                    distributePositionPoint(substituteMember);
-                }
+                distributePositionPoints(fieldMembers, substituteMembers, period);
                 team.getRecord().updateLoseCount();
+                bucket.addLose();
                 team.getRecord().updateWinRate(((double) ((team.getRecord().getWinCount() / team.getRecord().getTotalGameCount()))) * 100.0);
             } else {
                 afterMatching.editResult(results.get(1), results.get(1));
                 team.getRecord().updateDrawCount();
+                bucket.addDraw();
                 team.getRecord().updateWinRate(((double) ((team.getRecord().getWinCount() / team.getRecord().getTotalGameCount()))) * 100.0);
             }
         } else if (team.getName().equals(afterMatching.getBeforeMatching().getOpposingTeamName())) {
             if (afterMatching.getScore() > afterMatching.getOpponentScore()) {
                 afterMatching.editResult(results.get(0), results.get(2));
                 team.getRecord().updateLoseCount();
+                bucket.addLose();
                 team.getRecord().updateWinRate(((double) ((team.getRecord().getWinCount() / team.getRecord().getTotalGameCount()))) * 100.0);
             } else if (afterMatching.getScore() < afterMatching.getOpponentScore()) {
                 afterMatching.editResult(results.get(2), results.get(0));
-                for (FieldMember fieldMember : fieldMembers) {
-                    distributePositionPoint(fieldMember);
-                }
                 List<SubstituteMember> substituteMembers = substituteRepository.findAllByMatchSubstituteMembersAndAnonymousFalse(team.getId(), afterMatching.getId());
-                for (SubstituteMember substituteMember : substituteMembers) {
-                    distributePositionPoint(substituteMember);
-                }
+                distributePositionPoints(fieldMembers, substituteMembers, period);
                 team.getRecord().updateWinCount();
+                bucket.addWin();
                 team.getRecord().updateWinRate(((double) ((team.getRecord().getWinCount() / team.getRecord().getTotalGameCount()))) * 100.0);
             } else {
                 afterMatching.editResult(results.get(1), results.get(1));
                 team.getRecord().updateDrawCount();
+                bucket.addDraw();
                 team.getRecord().updateWinRate(((double) ((team.getRecord().getWinCount() / team.getRecord().getTotalGameCount()))) * 100.0);
             }
         }
+        eventPublisher.publishEvent(TeamChangedEvent.of(team));
+    }
+
+    // 출전 선수 전원의 기간 집계 행을 한 문장으로 먼저 만들고 포지션 포인트 반영
+    private void distributePositionPoints(List<FieldMember> fieldMembers, List<SubstituteMember> substituteMembers, String period) {
+        Set<Long> memberIds = new HashSet<>();
+        fieldMembers.forEach(fieldMember -> memberIds.add(fieldMember.getMember().getId()));
+        substituteMembers.forEach(substituteMember -> memberIds.add(substituteMember.getMember().getId()));
+        if (!memberIds.isEmpty()) {
+            memberPointBucketRepository.createIfAbsent(memberIds, period, LocalDateTime.now());
+        }
+        for (FieldMember fieldMember : fieldMembers) {
+            distributePositionPoint(fieldMember, period);
+        }
+        for (SubstituteMember substituteMember : substituteMembers) {
+            distributePositionPoint(substituteMember, period);
+        }
     }
 
     @Transactional
-    void distributePositionPoint(FieldMember fieldMember) {
+    void distributePositionPoint(FieldMember fieldMember, String period) {
         switch (fieldMember.getPosition()) {
             case "striker":
                 fieldMember.getMember().getAbility().updateStrikePoint();
@@ -603,10 +717,12 @@ public class MatchingService {
                 fieldMember.getMember().getAbility().updateGoalkeeperPoint();
                 break;
         }
+        memberPointBucketOf(fieldMember.getMember(), period).addPoint(fieldMember.getPosition());
+        eventPublisher.publishEvent(MemberChangedEvent.of(fieldMember.getMember()));
     }
 
     @Transactional
-    void distributePositionPoint(SubstituteMember substituteMember) {
+    void distributePositionPoint(SubstituteMember substituteMember, String period) {
         switch (substituteMember.getPosition()) {
             case "striker":
                 substituteMember.getMember().getAbility().updateStrikePoint();
@@ -623,6 +739,32 @@ public class MatchingService {
             default:
                 break;
         }
+        memberPointBucketOf(substituteMember.getMember(), period).addPoint(substituteMember.getPosition());
+        eventPublisher.publishEvent(MemberChangedEvent.of(substituteMember.getMember()));
+    }
+
+    // 집계 기간(yyyy-MM)은 결과를 입력한 시점이 아니라 경기 날짜 기준
+    private static String periodOf(BeforeMatching beforeMatching) {
+        return YearMonth.from(beforeMatching.getMatchDate().toInstant().atZone(ZoneId.systemDefault())).toString();
+    }
+
+    // 해당 기간 팀 전적 집계 행 (없으면 생성), 동시에 갱신되지 않도록 잠근 상태로 돌려준다
+    private TeamRecordBucket teamRecordBucketOf(Team team, String period) {
+        if (!teamRecordBucketRepository.existsByTeamIdAndPeriod(team.getId(), period)) {
+            // 다른 경기 결과가 먼저 만들었으면 그대로 두므로 unique 제약 위반 없이 경기 결과 트랜잭션 안에서 처리된다
+            teamRecordBucketRepository.createIfAbsent(team.getId(), period, LocalDateTime.now());
+        }
+        return teamRecordBucketRepository.findByTeamIdAndPeriodForUpdate(team.getId(), period).orElseThrow(
+                () -> new IllegalArgumentException("팀 전적 집계를 찾을 수 없습니다."));
+    }
+
+    // 해당 기간 개인 포인트 집계 행 (없으면 생성), 동시에 갱신되지 않도록 잠근 상태로 돌려준다
+    private MemberPointBucket memberPointBucketOf(Member member, String period) {
+        if (!memberPointBucketRepository.existsByMemberIdAndPeriod(member.getId(), period)) {
+            memberPointBucketRepository.createIfAbsent(List.of(member.getId()), period, LocalDateTime.now());
+        }
+        return memberPointBucketRepository.findByMemberIdAndPeriodForUpdate(member.getId(), period).orElseThrow(
+                () -> new IllegalArgumentException("개인 포인트 집계를 찾을 수 없습니다."));
     }
 
     private SubstituteMember searchSubMember(List<SubstituteMember> substituteMembers, Long memberId) {
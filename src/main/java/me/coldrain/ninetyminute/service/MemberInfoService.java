@@ -5,8 +5,10 @@ import lombok.extern.slf4j.Slf4j;
 import me.coldrain.ninetyminute.dto.response.MemberGameHistoryResponse;
 import me.coldrain.ninetyminute.dto.response.MemberInfoResponse;
 import me.coldrain.ninetyminute.entity.*;
+import me.coldrain.ninetyminute.event.MemberChangedEvent;
 import me.coldrain.ninetyminute.repository.*;
 import me.coldrain.ninetyminute.security.UserDetailsImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -29,6 +31,7 @@ public class MemberInfoService {
     private final HistoryRepository historyRepository;
     private final AfterMatchingRepository afterMatchingRepository;
     private final ApplyRepository applyRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     //회원정보 조회
     public ResponseEntity<?> memberInfoGet(Long memberId, UserDetailsImpl userDetails) {
@@ -196,6 +199,7 @@ public class MemberInfoService {
             } else {
                 member.memberSecession(username, nickname);
             }
+            eventPublisher.publishEvent(MemberChangedEvent.of(member));
 
 
             return new ResponseEntity<>("회원탈퇴가 완료 되었습니다.", HttpStatus.OK);
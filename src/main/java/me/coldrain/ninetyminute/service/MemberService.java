@@ -7,11 +7,13 @@ import me.coldrain.ninetyminute.dto.response.MemberDuplicateResponse;
 import me.coldrain.ninetyminute.entity.Ability;
 import me.coldrain.ninetyminute.entity.Member;
 import me.coldrain.ninetyminute.entity.MemberRoleEnum;
+import me.coldrain.ninetyminute.event.MemberChangedEvent;
 import me.coldrain.ninetyminute.exception.ErrorCode;
 import me.coldrain.ninetyminute.repository.AbilityRepository;
 import me.coldrain.ninetyminute.repository.MemberRepository;
 import me.coldrain.ninetyminute.security.UserDetailsImpl;
 import me.coldrain.ninetyminute.security.jwt.JwtTokenProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -35,6 +37,7 @@ public class MemberService {
     private final AwsS3Service awsS3Service;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     //회원가입
     @Transactional
@@ -120,6 +123,7 @@ public class MemberService {
             } else {
                 member.memberUpdate(memberEditRequest);
             }
+            eventPublisher.publishEvent(MemberChangedEvent.of(member));
 
             return new ResponseEntity<>(jwtTokenCreate(member), HttpStatus.OK);
         } catch (Exception e) {
@@ -157,6 +161,7 @@ public class MemberService {
                     member.memberProFileImageUpdate(profileImg);
                 }
             }
+            eventPublisher.publishEvent(MemberChangedEvent.of(member));
             return new ResponseEntity<>(HttpStatus.OK);
         } catch (Exception e) {
             return new ResponseEntity<>("존재하지 않는 회원입니다.", HttpStatus.BAD_REQUEST);
@@ -5,12 +5,16 @@ import me.coldrain.ninetyminute.dto.request.TeamParticipateRequest;
 import me.coldrain.ninetyminute.entity.Member;
 import me.coldrain.ninetyminute.entity.Participation;
 import me.coldrain.ninetyminute.entity.Team;
+import me.coldrain.ninetyminute.event.TeamChangedEvent;
 import me.coldrain.ninetyminute.repository.MemberRepository;
 import me.coldrain.ninetyminute.repository.ParticipationRepository;
 import me.coldrain.ninetyminute.repository.TeamRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -19,6 +23,7 @@ public class ParticipationService {
     private final ParticipationRepository participationRepository;
     private final TeamRepository teamRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void participate(
@@ -50,7 +55,7 @@ public class ParticipationService {
 
     @Transactional
     public void approve(final Long teamId, final Long memberId, final Member member) {
-        teamRepository.findByIdAndDeletedFalse(teamId)
+        final Team team = teamRepository.findByIdAndDeletedFalse(teamId)
                 .orElseThrow(() -> new IllegalArgumentException("팀이 존재하지 않습니다."));
         memberRepository.findById(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("회원이 존재하지 않습니다."));
@@ -67,7 +72,12 @@ public class ParticipationService {
             throw new IllegalArgumentException("이미 승인된 회원입니다.");
         }
 
-        participation.changeApproved(true);
+        // 조회 후 다른 요청이 먼저 승인했으면 0, 승인 상태를 바꾼 요청만 팀원 수를 올린다
+        if (participationRepository.approve(participation.getId(), LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException("이미 승인된 회원입니다.");
+        }
+        teamRepository.increaseApprovedMemberCount(teamId);
+        eventPublisher.publishEvent(TeamChangedEvent.of(team));
     }
 
     @Transactional
@@ -81,5 +91,9 @@ public class ParticipationService {
         }
 
         participationRepository.delete(participation);
+        if (participation.getApproved()) {
+            teamRepository.decreaseApprovedMemberCount(teamId);
+            eventPublisher.publishEvent(TeamChangedEvent.of(participation.getTeam()));
+        }
     }
 }
@@ -2,11 +2,15 @@ package me.coldrain.ninetyminute.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import me.coldrain.ninetyminute.dto.RankerTeamView;
 import me.coldrain.ninetyminute.dto.response.MyRankResponse;
 import me.coldrain.ninetyminute.dto.response.MyTeamRankResponse;
 import me.coldrain.ninetyminute.dto.response.RankerMemberResponse;
 import me.coldrain.ninetyminute.dto.response.RankerTeamResponse;
 import me.coldrain.ninetyminute.entity.*;
+import me.coldrain.ninetyminute.rank.MemberLeaderboard;
+import me.coldrain.ninetyminute.rank.RankDimension;
+import me.coldrain.ninetyminute.rank.TeamLeaderboard;
 import me.coldrain.ninetyminute.repository.*;
 import me.coldrain.ninetyminute.security.UserDetailsImpl;
 import org.springframework.http.HttpStatus;
@@ -14,378 +18,82 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.*;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class RankService {
+    private static final int RANKER_SIZE = 10;
+
     private final MemberRepository memberRepository;
     private final AbilityRepository abilityRepository;
     private final TeamRepository teamRepository;
     private final RecordRepository recordRepository;
     private final ParticipationRepository participationRepository;
+    private final TeamLeaderboard teamLeaderboard;
+    private final MemberLeaderboard memberLeaderboard;
+    private final RankSnapshotService rankSnapshotService;
+    private final TeamRecordBucketRepository teamRecordBucketRepository;
+    private final MemberRankQueryRepository memberRankQueryRepository;
+
+    //팀 랭킹 조회, area 가 있으면 해당 지역 랭킹
+    public ResponseEntity<?> teamRankGet(String area) {
+        if (area != null && !area.isBlank()) {
+            return areaTeamRankGet(area);
+        }
+        // 갱신 주기 사이에는 최신 스냅샷, 첫 스냅샷 전에는 리더보드, 리더보드 적재 전이면 DB 에서 상위 10개만 조회
+        Optional<List<RankerTeamResponse>> snapshot = rankSnapshotService.findTeamRankers();
+        if (snapshot.isPresent()) {
+            return new ResponseEntity<>(snapshot.get(), HttpStatus.OK);
+        }
+        if (teamLeaderboard.isLoaded()) {
+            return new ResponseEntity<>(teamLeaderboard.top(RANKER_SIZE), HttpStatus.OK);
+        }
+        return new ResponseEntity<>(toRankerTeamResponses(recordRepository.findRankers(RANKER_SIZE)), HttpStatus.OK);
+    }
 
-    //팀 랭킹 조회
-    public ResponseEntity<?> teamRankGet() {
-        List<RankerTeamResponse> rankerTeamResponsesList = new ArrayList<>();
-        int rank = 1;
-
-        List<Record> rankerTeamList = recordRepository.findAllByOrderByWinPointDescWinRateDesc();
-        for (int i = 0; i < rankerTeamList.size(); i++) {
-
-            Team rankerTeam = teamRepository.findByRecord_Id(rankerTeamList.get(i).getId())
-                    .orElseThrow(() -> new NullPointerException("존재하지 않는 팀 입니다."));
-
-            if (i == 0) {
-                RankerTeamResponse rankerTeamResponse = new RankerTeamResponse(
-                        rankerTeam.getId(),
-                        rankerTeam.getTeamProfileUrl(),
-                        rankerTeam.getName(),
-                        rankerTeam.getRecord().getWinPoint(),
-                        rank
-                );
-                rankerTeamResponsesList.add(rankerTeamResponse);
-            } else if (rankerTeamList.get(i - 1).getWinPoint().equals(rankerTeamList.get(i).getWinPoint()) &&
-                    rankerTeamList.get(i - 1).getWinRate().equals(rankerTeamList.get(i).getWinRate())) {
-                RankerTeamResponse rankerTeamResponse = new RankerTeamResponse(
-                        rankerTeam.getId(),
-                        rankerTeam.getTeamProfileUrl(),
-                        rankerTeam.getName(),
-                        rankerTeam.getRecord().getWinPoint(),
-                        rank
-                );
-                rankerTeamResponsesList.add(rankerTeamResponse);
-            } else if (rankerTeamList.get(i - 1).getWinPoint().equals(rankerTeamList.get(i).getWinPoint()) &&
-                    !rankerTeamList.get(i - 1).getWinRate().equals(rankerTeamList.get(i).getWinRate())) {
-                rank++;
-                RankerTeamResponse rankerTeamResponse = new RankerTeamResponse(
-                        rankerTeam.getId(),
-                        rankerTeam.getTeamProfileUrl(),
-                        rankerTeam.getName(),
-                        rankerTeam.getRecord().getWinPoint(),
-                        rank
-                );
-                rankerTeamResponsesList.add(rankerTeamResponse);
-            } else {
-                rank++;
-                RankerTeamResponse rankerTeamResponse = new RankerTeamResponse(
-                        rankerTeam.getId(),
-                        rankerTeam.getTeamProfileUrl(),
-                        rankerTeam.getName(),
-                        rankerTeam.getRecord().getWinPoint(),
-                        rank
-                );
-                rankerTeamResponsesList.add(rankerTeamResponse);
-            }
-
-            if (rankerTeamResponsesList.size() == 10) {
-                break;
-            }
+    private ResponseEntity<?> areaTeamRankGet(String area) {
+        if (teamLeaderboard.isLoaded()) {
+            return new ResponseEntity<>(teamLeaderboard.top(area, RANKER_SIZE), HttpStatus.OK);
         }
-        return new ResponseEntity<>(rankerTeamResponsesList, HttpStatus.OK);
+        // 랭킹 적재 전에는 DB 에서 해당 지역 상위 10개만 조회
+        return new ResponseEntity<>(toRankerTeamResponses(recordRepository.findRankersByArea(area, RANKER_SIZE)), HttpStatus.OK);
     }
 
     //개인 포지션 랭킹 조회
     public ResponseEntity<?> memberRankGet(String ability) {
-        List<RankerMemberResponse> rankerMemberResponseList = new ArrayList<>();
-
-        switch (ability) {
-            case "striker":
-                int strikerRank = 1;
-
-                List<Member> rankStrikerPointMemberList = memberRepository.findAllByStrikerPoint(ability);
-                for (int i = 0; i < rankStrikerPointMemberList.size(); i++) {
-
-                    if (i == 0) {
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                rankStrikerPointMemberList.get(i).getId(),
-                                rankStrikerPointMemberList.get(i).getProfileUrl(),
-                                rankStrikerPointMemberList.get(i).getNickname(),
-                                rankStrikerPointMemberList.get(i).getPosition(),
-                                rankStrikerPointMemberList.get(i).getAbility().getMvpPoint(),
-                                rankStrikerPointMemberList.get(i).getAbility().getStrikerPoint(),
-                                strikerRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    } else if (rankStrikerPointMemberList.get(i - 1).getAbility().getStrikerPoint()
-                            .equals(rankStrikerPointMemberList.get(i).getAbility().getStrikerPoint())) {
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                rankStrikerPointMemberList.get(i).getId(),
-                                rankStrikerPointMemberList.get(i).getProfileUrl(),
-                                rankStrikerPointMemberList.get(i).getNickname(),
-                                rankStrikerPointMemberList.get(i).getPosition(),
-                                rankStrikerPointMemberList.get(i).getAbility().getMvpPoint(),
-                                rankStrikerPointMemberList.get(i).getAbility().getStrikerPoint(),
-                                strikerRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    } else {
-                        strikerRank++;
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                rankStrikerPointMemberList.get(i).getId(),
-                                rankStrikerPointMemberList.get(i).getProfileUrl(),
-                                rankStrikerPointMemberList.get(i).getNickname(),
-                                rankStrikerPointMemberList.get(i).getPosition(),
-                                rankStrikerPointMemberList.get(i).getAbility().getMvpPoint(),
-                                rankStrikerPointMemberList.get(i).getAbility().getStrikerPoint(),
-                                strikerRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    }
-
-                    if (rankerMemberResponseList.size() == 10) {
-                        break;
-                    }
-                }
-                break;
-
-            case "midfielder":
-                int midfielderRank = 1;
-
-                List<Member> rankMidfielderPointMemberList = memberRepository.findAllByMidfielderPoint(ability);
-                for (int i = 0; i < rankMidfielderPointMemberList.size(); i++) {
-
-                    if (i == 0) {
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                rankMidfielderPointMemberList.get(i).getId(),
-                                rankMidfielderPointMemberList.get(i).getProfileUrl(),
-                                rankMidfielderPointMemberList.get(i).getNickname(),
-                                rankMidfielderPointMemberList.get(i).getPosition(),
-                                rankMidfielderPointMemberList.get(i).getAbility().getMvpPoint(),
-                                rankMidfielderPointMemberList.get(i).getAbility().getMidfielderPoint(),
-                                midfielderRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    } else if (rankMidfielderPointMemberList.get(i - 1).getAbility().getMidfielderPoint()
-                            .equals(rankMidfielderPointMemberList.get(i).getAbility().getMidfielderPoint())) {
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                rankMidfielderPointMemberList.get(i).getId(),
-                                rankMidfielderPointMemberList.get(i).getProfileUrl(),
-                                rankMidfielderPointMemberList.get(i).getNickname(),
-                                rankMidfielderPointMemberList.get(i).getPosition(),
-                                rankMidfielderPointMemberList.get(i).getAbility().getMvpPoint(),
-                                rankMidfielderPointMemberList.get(i).getAbility().getMidfielderPoint(),
-                                midfielderRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    } else {
-                        midfielderRank++;
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                rankMidfielderPointMemberList.get(i).getId(),
-                                rankMidfielderPointMemberList.get(i).getProfileUrl(),
-                                rankMidfielderPointMemberList.get(i).getNickname(),
-                                rankMidfielderPointMemberList.get(i).getPosition(),
-                                rankMidfielderPointMemberList.get(i).getAbility().getMvpPoint(),
-                                rankMidfielderPointMemberList.get(i).getAbility().getMidfielderPoint(),
-                                midfielderRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    }
-
-                    if (rankerMemberResponseList.size() == 10) {
-                        break;
-                    }
-                }
-                break;
-
-            case "defender":
-                int defenderRank = 1;
-
-                List<Member> rankDefenderPointMemberList = memberRepository.findAllByDefenderPoint(ability);
-                for (int i = 0; i < rankDefenderPointMemberList.size(); i++) {
-
-                    if (i == 0) {
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                rankDefenderPointMemberList.get(i).getId(),
-                                rankDefenderPointMemberList.get(i).getProfileUrl(),
-                                rankDefenderPointMemberList.get(i).getNickname(),
-                                rankDefenderPointMemberList.get(i).getPosition(),
-                                rankDefenderPointMemberList.get(i).getAbility().getMvpPoint(),
-                                rankDefenderPointMemberList.get(i).getAbility().getDefenderPoint(),
-                                defenderRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    } else if (rankDefenderPointMemberList.get(i - 1).getAbility().getDefenderPoint()
-                            .equals(rankDefenderPointMemberList.get(i).getAbility().getDefenderPoint())) {
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                rankDefenderPointMemberList.get(i).getId(),
-                                rankDefenderPointMemberList.get(i).getProfileUrl(),
-                                rankDefenderPointMemberList.get(i).getNickname(),
-                                rankDefenderPointMemberList.get(i).getPosition(),
-                                rankDefenderPointMemberList.get(i).getAbility().getMvpPoint(),
-                                rankDefenderPointMemberList.get(i).getAbility().getDefenderPoint(),
-                                defenderRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    } else {
-                        defenderRank++;
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                rankDefenderPointMemberList.get(i).getId(),
-                                rankDefenderPointMemberList.get(i).getProfileUrl(),
-                                rankDefenderPointMemberList.get(i).getNickname(),
-                                rankDefenderPointMemberList.get(i).getPosition(),
-                                rankDefenderPointMemberList.get(i).getAbility().getMvpPoint(),
-                                rankDefenderPointMemberList.get(i).getAbility().getDefenderPoint(),
-                                defenderRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    }
-
-                    if (rankerMemberResponseList.size() == 10) {
-                        break;
-                    }
-                }
-                break;
-
-            case "goalkeeper":
-                int goalkeeperRank = 1;
-
-                List<Member> rankGoalkeeperRankPointMemberList = memberRepository.findAllByGoalkeeperPoint(ability);
-                for (int i = 0; i < rankGoalkeeperRankPointMemberList.size(); i++) {
-
-                    if (i == 0) {
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                rankGoalkeeperRankPointMemberList.get(i).getId(),
-                                rankGoalkeeperRankPointMemberList.get(i).getProfileUrl(),
-                                rankGoalkeeperRankPointMemberList.get(i).getNickname(),
-                                rankGoalkeeperRankPointMemberList.get(i).getPosition(),
-                                rankGoalkeeperRankPointMemberList.get(i).getAbility().getMvpPoint(),
-                                rankGoalkeeperRankPointMemberList.get(i).getAbility().getGoalkeeperPoint(),
-                                goalkeeperRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    } else if (rankGoalkeeperRankPointMemberList.get(i - 1).getAbility().getGoalkeeperPoint()
-                            .equals(rankGoalkeeperRankPointMemberList.get(i).getAbility().getGoalkeeperPoint())) {
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                rankGoalkeeperRankPointMemberList.get(i).getId(),
-                                rankGoalkeeperRankPointMemberList.get(i).getProfileUrl(),
-                                rankGoalkeeperRankPointMemberList.get(i).getNickname(),
-                                rankGoalkeeperRankPointMemberList.get(i).getPosition(),
-                                rankGoalkeeperRankPointMemberList.get(i).getAbility().getMvpPoint(),
-                                rankGoalkeeperRankPointMemberList.get(i).getAbility().getGoalkeeperPoint(),
-                                goalkeeperRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    } else {
-                        goalkeeperRank++;
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                rankGoalkeeperRankPointMemberList.get(i).getId(),
-                                rankGoalkeeperRankPointMemberList.get(i).getProfileUrl(),
-                                rankGoalkeeperRankPointMemberList.get(i).getNickname(),
-                                rankGoalkeeperRankPointMemberList.get(i).getPosition(),
-                                rankGoalkeeperRankPointMemberList.get(i).getAbility().getMvpPoint(),
-                                rankGoalkeeperRankPointMemberList.get(i).getAbility().getGoalkeeperPoint(),
-                                goalkeeperRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    }
-
-                    if (rankerMemberResponseList.size() == 10) {
-                        break;
-                    }
-                }
-                break;
-
-            case "charming":
-                int charmingRank = 1;
-
-                List<Member> rankerCharmingPointMemberList = memberRepository.findAllByCharmingPoint();
-                for (int i = 0; i < rankerCharmingPointMemberList.size(); i++) {
-
-                    if (i == 0) {
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                rankerCharmingPointMemberList.get(i).getId(),
-                                rankerCharmingPointMemberList.get(i).getProfileUrl(),
-                                rankerCharmingPointMemberList.get(i).getNickname(),
-                                rankerCharmingPointMemberList.get(i).getPosition(),
-                                rankerCharmingPointMemberList.get(i).getAbility().getMvpPoint(),
-                                rankerCharmingPointMemberList.get(i).getAbility().getCharmingPoint(),
-                                charmingRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    } else if (rankerCharmingPointMemberList.get(i - 1).getAbility().getCharmingPoint()
-                            .equals(rankerCharmingPointMemberList.get(i).getAbility().getCharmingPoint())) {
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                rankerCharmingPointMemberList.get(i).getId(),
-                                rankerCharmingPointMemberList.get(i).getProfileUrl(),
-                                rankerCharmingPointMemberList.get(i).getNickname(),
-                                rankerCharmingPointMemberList.get(i).getPosition(),
-                                rankerCharmingPointMemberList.get(i).getAbility().getMvpPoint(),
-                                rankerCharmingPointMemberList.get(i).getAbility().getCharmingPoint(),
-                                charmingRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    } else {
-                        charmingRank++;
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                rankerCharmingPointMemberList.get(i).getId(),
-                                rankerCharmingPointMemberList.get(i).getProfileUrl(),
-                                rankerCharmingPointMemberList.get(i).getNickname(),
-                                rankerCharmingPointMemberList.get(i).getPosition(),
-                                rankerCharmingPointMemberList.get(i).getAbility().getMvpPoint(),
-                                rankerCharmingPointMemberList.get(i).getAbility().getCharmingPoint(),
-                                charmingRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    }
-
-                    if (rankerMemberResponseList.size() == 10) {
-                        break;
-                    }
-                }
-                break;
-
-            default:
-                int defaultMvpRank = 1;
+        RankDimension dimension = RankDimension.of(ability);
+        // 갱신 주기 사이에는 최신 스냅샷, 첫 스냅샷 전에는 리더보드, 리더보드 적재 전이면 DB 에서 상위 10개만 조회
+        Optional<List<RankerMemberResponse>> snapshot = rankSnapshotService.findMemberRankers(dimension);
+        if (snapshot.isPresent()) {
+            return new ResponseEntity<>(snapshot.get(), HttpStatus.OK);
+        }
+        if (memberLeaderboard.isLoaded()) {
+            return new ResponseEntity<>(memberLeaderboard.top(dimension, RANKER_SIZE), HttpStatus.OK);
+        }
+        return new ResponseEntity<>(memberRankQueryRepository.findRankers(dimension, RANKER_SIZE), HttpStatus.OK);
+    }
 
-                List<Member> defaultRankerMvpPointMemberList = memberRepository.findAllByMvpPoint();
-                for (int i = 0; i < defaultRankerMvpPointMemberList.size(); i++) {
+    //기간(월 단위) 팀 랭킹 조회, 기간을 생략하면 이번 달
+    public ResponseEntity<?> seasonTeamRankGet(String from, String to) {
+        String[] period = periodOf(from, to);
+        List<RankerTeamView> rankers = teamRecordBucketRepository.findRankers(period[0], period[1], RANKER_SIZE);
+        return new ResponseEntity<>(toRankerTeamResponses(rankers), HttpStatus.OK);
+    }
 
-                    if (i == 0) {
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                defaultRankerMvpPointMemberList.get(i).getId(),
-                                defaultRankerMvpPointMemberList.get(i).getProfileUrl(),
-                                defaultRankerMvpPointMemberList.get(i).getNickname(),
-                                defaultRankerMvpPointMemberList.get(i).getPosition(),
-                                defaultRankerMvpPointMemberList.get(i).getAbility().getMvpPoint(),
-                                defaultRankerMvpPointMemberList.get(i).getAbility().getMvpPoint(),
-                                defaultMvpRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    } else if (defaultRankerMvpPointMemberList.get(i - 1).getAbility().getMvpPoint()
-                            .equals(defaultRankerMvpPointMemberList.get(i).getAbility().getMvpPoint())) {
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                defaultRankerMvpPointMemberList.get(i).getId(),
-                                defaultRankerMvpPointMemberList.get(i).getProfileUrl(),
-                                defaultRankerMvpPointMemberList.get(i).getNickname(),
-                                defaultRankerMvpPointMemberList.get(i).getPosition(),
-                                defaultRankerMvpPointMemberList.get(i).getAbility().getMvpPoint(),
-                                defaultRankerMvpPointMemberList.get(i).getAbility().getMvpPoint(),
-                                defaultMvpRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    } else {
-                        defaultMvpRank++;
-                        RankerMemberResponse rankerMemberResponse = new RankerMemberResponse(
-                                defaultRankerMvpPointMemberList.get(i).getId(),
-                                defaultRankerMvpPointMemberList.get(i).getProfileUrl(),
-                                defaultRankerMvpPointMemberList.get(i).getNickname(),
-                                defaultRankerMvpPointMemberList.get(i).getPosition(),
-                                defaultRankerMvpPointMemberList.get(i).getAbility().getMvpPoint(),
-                                defaultRankerMvpPointMemberList.get(i).getAbility().getMvpPoint(),
-                                defaultMvpRank
-                        );
-                        rankerMemberResponseList.add(rankerMemberResponse);
-                    }
+    //기간(월 단위) 개인 포지션 랭킹 조회, 기간을 생략하면 이번 달
+    public ResponseEntity<?> seasonMemberRankGet(String ability, String from, String to) {
+        String[] period = periodOf(from, to);
+        RankDimension dimension = RankDimension.of(ability);
+        return new ResponseEntity<>(memberRankQueryRepository.findRankers(dimension, period[0], period[1], RANKER_SIZE), HttpStatus.OK);
+    }
 
-                    if (rankerMemberResponseList.size() == 10) {
-                        break;
-                    }
-                }
-        }
-        return new ResponseEntity<>(rankerMemberResponseList, HttpStatus.OK);
+    //랭킹 스냅샷 상태 조회
+    public ResponseEntity<?> rankSnapshotGet() {
+        return new ResponseEntity<>(rankSnapshotService.snapshotStatus(), HttpStatus.OK);
     }
 
     //로그인 사용자 개인 랭킹
@@ -399,156 +107,111 @@ public class RankService {
             return new ResponseEntity<>("회원정보를 입력해주세요.", HttpStatus.BAD_REQUEST);
         }
 
-        int myRank = 1;
-
-        MyRankResponse myStrikerRankResponse = new MyRankResponse();
-        myStrikerRankResponse.setMemberId(userDetails.getUser().getId());
-        myStrikerRankResponse.setProfileImagerUrl(userDetails.getUser().getProfileUrl());
-        myStrikerRankResponse.setNickname(userDetails.getUser().getNickname());
-        myStrikerRankResponse.setPosition(userDetails.getUser().getPosition());
-        myStrikerRankResponse.setMvpPoint(member.getAbility().getMvpPoint());
-
-        switch (userDetails.getUser().getPosition()) {
-            case "striker":
-                List<Ability> myStrikerPointRank = abilityRepository.findAllByOrderByStrikerPointDesc();
-                for (int i = 0; i < myStrikerPointRank.size(); i++) {
-                    if (!myStrikerPointRank.get(i).getId().equals(member.getAbility().getId())) {
-                        if (i == myStrikerPointRank.size() - 1) {
-                            break;
-                        } else if (!myStrikerPointRank.get(i).getStrikerPoint().equals(myStrikerPointRank.get(i + 1).getStrikerPoint())) {
-                            myRank++;
-                        }
-                    } else {
-                        break;
-                    }
-                }
-                myStrikerRankResponse.setMyRank(myRank);
-                myStrikerRankResponse.setPositionPoint(member.getAbility().getStrikerPoint());
-                break;
-
-            case "midfielder":
-                List<Ability> myMidfielderPointRank = abilityRepository.findAllByOrderByMidfielderPointDesc();
-                for (int i = 0; i < myMidfielderPointRank.size(); i++) {
-                    if (!myMidfielderPointRank.get(i).getId().equals(member.getAbility().getId())) {
-                        if (i == myMidfielderPointRank.size() - 1) {
-                            break;
-                        } else if (!myMidfielderPointRank.get(i).getMidfielderPoint().equals(myMidfielderPointRank.get(i + 1).getMidfielderPoint())) {
-                            myRank++;
-                        }
-                    } else {
-                        break;
-                    }
-                }
-                myStrikerRankResponse.setMyRank(myRank);
-                myStrikerRankResponse.setPositionPoint(member.getAbility().getMidfielderPoint());
-                break;
-
-            case "defender":
-                List<Ability> myDefenderPointRank = abilityRepository.findAllByOrderByDefenderPointDesc();
-                for (int i = 0; i < myDefenderPointRank.size(); i++) {
-                    if (!myDefenderPointRank.get(i).getId().equals(member.getAbility().getId())) {
-                        if (i == myDefenderPointRank.size() - 1) {
-                            break;
-                        } else if (!myDefenderPointRank.get(i).getDefenderPoint().equals(myDefenderPointRank.get(i + 1).getDefenderPoint())) {
-                            myRank++;
-                        }
-                    } else {
-                        break;
-                    }
-                }
-                myStrikerRankResponse.setMyRank(myRank);
-                myStrikerRankResponse.setPositionPoint(member.getAbility().getDefenderPoint());
-                break;
-
-            case "goalkeeper":
-                List<Ability> myGoalkeeperPointRank = abilityRepository.findAllByOrderByGoalkeeperPointDesc();
-                for (int i = 0; i < myGoalkeeperPointRank.size(); i++) {
-                    if (!myGoalkeeperPointRank.get(i).getId().equals(member.getAbility().getId())) {
-                        if (i == myGoalkeeperPointRank.size() - 1) {
-                            break;
-                        } else if (!myGoalkeeperPointRank.get(i).getGoalkeeperPoint().equals(myGoalkeeperPointRank.get(i + 1).getGoalkeeperPoint())) {
-                            myRank++;
-                        }
-                    } else {
-                        break;
-                    }
-                }
-                myStrikerRankResponse.setMyRank(myRank);
-                myStrikerRankResponse.setPositionPoint(member.getAbility().getGoalkeeperPoint());
-                break;
+        MyRankResponse myRankResponse = new MyRankResponse();
+        myRankResponse.setMemberId(member.getId());
+        myRankResponse.setProfileImagerUrl(member.getProfileUrl());
+        myRankResponse.setNickname(member.getNickname());
+        myRankResponse.setPosition(member.getPosition());
+        myRankResponse.setMvpPoint(member.getAbility().getMvpPoint());
+
+        RankDimension position = RankDimension.ofPosition(member.getPosition());
+        if (position != null) {
+            Integer myRank = memberLeaderboard.rankOf(position, member.getId());
+            myRankResponse.setMyRank(myRank != null ? myRank : 0);
+            myRankResponse.setPositionPoint(position.pointOf(member.getAbility()));
         }
-        return new ResponseEntity<>(myStrikerRankResponse, HttpStatus.OK);
+        return new ResponseEntity<>(myRankResponse, HttpStatus.OK);
     }
 
     //로그인 사용자가 참여하고 있는 팀의 랭킹 조회
+    @Transactional(readOnly = true)
     public ResponseEntity<?> myTeamRankGet(UserDetailsImpl userDetails) {
         MyTeamRankResponse myTeamRankResponse = new MyTeamRankResponse();
-        MyTeamRankResponse.teamCaptain teamCaptainRank = new MyTeamRankResponse.teamCaptain();
-        MyTeamRankResponse.teamMember teamMemberRank = new MyTeamRankResponse.teamMember();
-
-        List<Record> TeamWinPointRank = recordRepository.findAllByOrderByWinPointDescWinRateDesc();
 
         Member member = memberRepository.findById(userDetails.getUser().getId()).orElseThrow(
                 () -> new NullPointerException("존재하지 않는 사용자 입니다."));
 
-        int myOpenTeamRank = 1;
-
-        if (member.getOpenTeam() != null) {
-            teamCaptainRank.setTeamId(member.getOpenTeam().getId());
-            teamCaptainRank.setMainArea(member.getOpenTeam().getMainArea());
-            teamCaptainRank.setTeamName(member.getOpenTeam().getName());
-            teamCaptainRank.setWinPoint(member.getOpenTeam().getRecord().getWinPoint());
+        Team openTeam = member.getOpenTeam();
+        List<Participation> myTeam = participationRepository.findAllWithTeamRecordByMemberIdTrue(member.getId());
 
-            for (int i = 0; i < TeamWinPointRank.size(); i++) {
-                if (!TeamWinPointRank.get(i).getId().equals(member.getOpenTeam().getRecord().getId())) {
-                    if (i == TeamWinPointRank.size() - 1) {
-                        break;
-                    } else if (!TeamWinPointRank.get(i).getWinPoint().equals(TeamWinPointRank.get(i + 1).getWinPoint())) {
-                        myOpenTeamRank++;
-                    } else if (TeamWinPointRank.get(i).getWinPoint().equals(TeamWinPointRank.get(i + 1).getWinPoint()) &&
-                            !TeamWinPointRank.get(i).getWinRate().equals(TeamWinPointRank.get(i + 1).getWinRate())) {
-                        myOpenTeamRank++;
-                    }
-                } else {
-                    break;
-                }
-            }
-            teamCaptainRank.setMyOpenTeamRank(myOpenTeamRank);
-        } else {
-            teamCaptainRank = null;
+        // 개설한 팀과 참여 중인 팀의 순위를 한 번에 조회
+        Set<Long> teamIds = new HashSet<>();
+        if (openTeam != null) {
+            teamIds.add(openTeam.getId());
+        }
+        myTeam.forEach(participation -> teamIds.add(participation.getTeam().getId()));
+        Map<Long, Integer> teamRanks = teamRanksOf(teamIds);
+
+        MyTeamRankResponse.teamCaptain teamCaptainRank = null;
+        if (openTeam != null) {
+            teamCaptainRank = new MyTeamRankResponse.teamCaptain();
+            teamCaptainRank.setTeamId(openTeam.getId());
+            teamCaptainRank.setMainArea(openTeam.getMainArea());
+            teamCaptainRank.setTeamName(openTeam.getName());
+            teamCaptainRank.setWinPoint(openTeam.getRecord().getWinPoint());
+            teamCaptainRank.setMyOpenTeamRank(teamRanks.getOrDefault(openTeam.getId(), 0));
         }
 
-        int myTeamRank = 1;
         List<MyTeamRankResponse.teamMember> teamMemberRankList = new ArrayList<>();
-        List<Participation> myTeam = participationRepository.findAllByMemberIdTrue(member.getId());
-        for (int i = 0; i < myTeam.size(); i++) {
-            if (!member.getOpenTeam().getId().equals(myTeam.get(i).getTeam().getId())) {
-                teamMemberRank.setTeamId(myTeam.get(i).getTeam().getId());
-                teamMemberRank.setMainArea(myTeam.get(i).getTeam().getMainArea());
-                teamMemberRank.setTeamName(myTeam.get(i).getTeam().getName());
-                teamMemberRank.setWinPoint(myTeam.get(i).getTeam().getRecord().getWinPoint());
-
-                for (int j = 0; j < TeamWinPointRank.size(); j++) {
-                    if (!TeamWinPointRank.get(j).getId().equals(myTeam.get(i).getTeam().getRecord().getId())) {
-                        if (i == TeamWinPointRank.size() - 1) {
-                            break;
-                        } else if (!TeamWinPointRank.get(j).getWinPoint().equals(TeamWinPointRank.get(j + 1).getWinPoint())) {
-                            myTeamRank++;
-                        } else if (TeamWinPointRank.get(j).getWinPoint().equals(TeamWinPointRank.get(j + 1).getWinPoint()) &&
-                                !TeamWinPointRank.get(j).getWinRate().equals(TeamWinPointRank.get(j + 1).getWinRate())) {
-                            myTeamRank++;
-                        }
-                    } else {
-                        break;
-                    }
-                }
-                teamMemberRank.setMyTeamRank(myTeamRank);
-                teamMemberRankList.add(teamMemberRank);
+        for (Participation participation : myTeam) {
+            Team team = participation.getTeam();
+            if (openTeam != null && openTeam.getId().equals(team.getId())) {
+                continue;
             }
+            MyTeamRankResponse.teamMember teamMemberRank = new MyTeamRankResponse.teamMember();
+            teamMemberRank.setTeamId(team.getId());
+            teamMemberRank.setMainArea(team.getMainArea());
+            teamMemberRank.setTeamName(team.getName());
+            teamMemberRank.setWinPoint(team.getRecord().getWinPoint());
+            teamMemberRank.setMyTeamRank(teamRanks.getOrDefault(team.getId(), 0));
+            teamMemberRankList.add(teamMemberRank);
         }
 
         myTeamRankResponse.setTeamCaptain(teamCaptainRank);
         myTeamRankResponse.setTeamMember(teamMemberRankList);
         return new ResponseEntity<>(myTeamRankResponse, HttpStatus.OK);
     }
+
+    // 팀 id 별 순위, 랭킹 적재 전에는 DB 에서 해당 팀들만 조회
+    private Map<Long, Integer> teamRanksOf(Set<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return Map.of();
+        }
+        if (teamLeaderboard.isLoaded()) {
+            return teamLeaderboard.ranksOf(teamIds);
+        }
+        Map<Long, Integer> teamRanks = new HashMap<>();
+        for (RankerTeamView ranker : recordRepository.findRanksByTeamIds(teamIds)) {
+            teamRanks.put(ranker.getTeamId(), ranker.getRanking());
+        }
+        return teamRanks;
+    }
+
+    // yyyy-MM 형식의 기간 [from, to], 생략된 값은 이번 달
+    private String[] periodOf(String from, String to) {
+        try {
+            YearMonth fromMonth = from != null ? YearMonth.parse(from) : YearMonth.now();
+            YearMonth toMonth = to != null ? YearMonth.parse(to) : (from != null ? fromMonth : YearMonth.now());
+            if (fromMonth.isAfter(toMonth)) {
+                throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+            }
+            return new String[]{fromMonth.toString(), toMonth.toString()};
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("기간은 yyyy-MM 형식으로 입력해주세요.");
+        }
+    }
+
+    private List<RankerTeamResponse> toRankerTeamResponses(List<RankerTeamView> rankers) {
+        List<RankerTeamResponse> rankerTeamResponseList = new ArrayList<>();
+        for (RankerTeamView ranker : rankers) {
+            rankerTeamResponseList.add(new RankerTeamResponse(
+                    ranker.getTeamId(),
+                    ranker.getTeamProfileUrl(),
+                    ranker.getTeamName(),
+                    ranker.getWinPoint(),
+                    ranker.getRanking()
+            ));
+        }
+        return rankerTeamResponseList;
+    }
 }
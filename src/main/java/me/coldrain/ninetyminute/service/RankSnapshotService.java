@@ -0,0 +1,197 @@
+package me.coldrain.ninetyminute.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.coldrain.ninetyminute.dto.response.RankSnapshotResponse;
+import me.coldrain.ninetyminute.dto.response.RankerMemberResponse;
+import me.coldrain.ninetyminute.dto.response.RankerTeamResponse;
+import me.coldrain.ninetyminute.entity.RankSnapshot;
+import me.coldrain.ninetyminute.rank.MemberLeaderboard;
+import me.coldrain.ninetyminute.rank.RankDimension;
+import me.coldrain.ninetyminute.rank.TeamLeaderboard;
+import me.coldrain.ninetyminute.repository.RankSnapshotRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 팀/개인 top-N 랭킹 스냅샷. 랭킹 조회(RankService.teamRankGet, memberRankGet)는 갱신 사이에 이 스냅샷을 그대로 돌려준다.
+ * 갱신(rank.snapshot.refresh-interval-ms, 기본 1분)은 메모리 리더보드를 한 번 훑어서 모든 항목을 만들고,
+ * rank_snapshot 테이블에 generation 단위로 저장한 뒤 메모리의 최신 스냅샷을 바꾼다.
+ * 재시작 직후(리더보드 적재 전)에는 마지막으로 저장된 generation 을 한 번의 쿼리로 읽어서 쓴다.
+ * 지역 랭킹과 내 순위는 회원/팀마다 달라 스냅샷에 담지 않고 리더보드에서 조회한다.
+ * generation 은 rank_snapshot_generation 행을 잠근 상태에서 발급하므로 여러 인스턴스가 동시에 갱신해도 섞이지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RankSnapshotService {
+
+    private static final String TEAM = "team";
+
+    private final RankSnapshotRepository rankSnapshotRepository;
+    private final TeamLeaderboard teamLeaderboard;
+    private final MemberLeaderboard memberLeaderboard;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${rank.snapshot.size:10}")
+    private int snapshotSize;
+
+    // 최신 스냅샷, 아직 없으면 null (갱신 전이면 DB 에서 읽는다)
+    private volatile Snapshot latest;
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("rank.snapshot.age", this, service -> {
+                    final Long age = service.ageSeconds();
+                    return age != null ? age : Double.NaN;
+                })
+                .description("최신 랭킹 스냅샷 생성 후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Transactional
+    @EventListener(ContextClosedEvent.class)
+    @Scheduled(fixedDelayString = "${rank.snapshot.refresh-interval-ms:60000}",
+            initialDelayString = "${rank.snapshot.refresh-interval-ms:60000}")
+    public void refresh() {
+        // 리더보드 적재 전에는 새로 만들 값이 없으므로 마지막 스냅샷을 유지
+        if (!teamLeaderboard.isLoaded() || !memberLeaderboard.isLoaded()) {
+            return;
+        }
+        final List<RankerTeamResponse> teamRankers = teamLeaderboard.top(snapshotSize);
+        final Map<RankDimension, List<RankerMemberResponse>> memberRankers = new EnumMap<>(RankDimension.class);
+        for (RankDimension dimension : RankDimension.values()) {
+            memberRankers.put(dimension, memberLeaderboard.top(dimension, snapshotSize));
+        }
+
+        final long generation = rankSnapshotRepository.lockLastGeneration() + 1;
+        rankSnapshotRepository.updateLastGeneration(generation);
+
+        final List<RankSnapshot> snapshots = new ArrayList<>();
+        for (RankerTeamResponse ranker : teamRankers) {
+            snapshots.add(RankSnapshot.builder()
+                    .generation(generation)
+                    .category(TEAM)
+                    .subjectId(ranker.getTeamId())
+                    .name(ranker.getTeamName())
+                    .profileUrl(ranker.getTeamProfileUrl())
+                    .point(ranker.getWinPoint())
+                    .ranking(ranker.getRank())
+                    .build());
+        }
+        memberRankers.forEach((dimension, rankers) -> {
+            for (RankerMemberResponse ranker : rankers) {
+                snapshots.add(RankSnapshot.builder()
+                        .generation(generation)
+                        .category(dimension.getKey())
+                        .subjectId(ranker.getMemberId())
+                        .name(ranker.getNickname())
+                        .profileUrl(ranker.getProfileImagerUrl())
+                        .position(ranker.getPosition())
+                        .mvpPoint(ranker.getMvpPoint())
+                        .point(ranker.getAbilityPoint())
+                        .ranking(ranker.getRank())
+                        .build());
+            }
+        });
+
+        rankSnapshotRepository.saveAll(snapshots);
+        rankSnapshotRepository.deleteOlderThan(generation);
+
+        replaceIfNewer(new Snapshot(generation, LocalDateTime.now(), teamRankers, memberRankers));
+        log.debug("RankSnapshot refreshed. generation = {}, rows = {}", generation, snapshots.size());
+    }
+
+    // 스냅샷이 아직 없으면 empty
+    public Optional<List<RankerTeamResponse>> findTeamRankers() {
+        return latest().map(snapshot -> snapshot.teamRankers);
+    }
+
+    // 스냅샷이 아직 없으면 empty
+    public Optional<List<RankerMemberResponse>> findMemberRankers(RankDimension dimension) {
+        return latest().map(snapshot -> snapshot.memberRankers.get(dimension));
+    }
+
+    public RankSnapshotResponse snapshotStatus() {
+        final Snapshot snapshot = latest().orElse(null);
+        return snapshot != null
+                ? new RankSnapshotResponse(snapshot.generation, snapshot.generatedAt, ageSeconds())
+                : new RankSnapshotResponse(null, null, null);
+    }
+
+    private Long ageSeconds() {
+        final Snapshot snapshot = latest;
+        return snapshot != null && snapshot.generatedAt != null ? Duration.between(snapshot.generatedAt, LocalDateTime.now()).getSeconds() : null;
+    }
+
+    // 이 인스턴스가 아직 갱신하지 않았으면 마지막으로 저장된 generation 을 읽어 둔다
+    private Optional<Snapshot> latest() {
+        if (latest == null) {
+            final List<RankSnapshot> rows = rankSnapshotRepository.findLatest();
+            if (!rows.isEmpty()) {
+                replaceIfNewer(Snapshot.of(rows));
+            }
+        }
+        return Optional.ofNullable(latest);
+    }
+
+    // DB 에서 읽는 동안 갱신이 끝났으면 더 최신인 갱신 결과를 유지
+    private synchronized void replaceIfNewer(Snapshot snapshot) {
+        if (latest == null || latest.generation < snapshot.generation) {
+            latest = snapshot;
+        }
+    }
+
+    private static class Snapshot {
+        private final long generation;
+        private final LocalDateTime generatedAt;
+        private final List<RankerTeamResponse> teamRankers;
+        private final Map<RankDimension, List<RankerMemberResponse>> memberRankers;
+
+        private Snapshot(long generation, LocalDateTime generatedAt, List<RankerTeamResponse> teamRankers,
+                         Map<RankDimension, List<RankerMemberResponse>> memberRankers) {
+            this.generation = generation;
+            this.generatedAt = generatedAt;
+            this.teamRankers = List.copyOf(teamRankers);
+            final Map<RankDimension, List<RankerMemberResponse>> copy = new EnumMap<>(RankDimension.class);
+            for (RankDimension dimension : RankDimension.values()) {
+                copy.put(dimension, List.copyOf(memberRankers.getOrDefault(dimension, List.of())));
+            }
+            this.memberRankers = copy;
+        }
+
+        // 한 generation 의 행(category, ranking 순)으로 스냅샷 복원
+        private static Snapshot of(List<RankSnapshot> rows) {
+            final List<RankerTeamResponse> teamRankers = new ArrayList<>();
+            final Map<RankDimension, List<RankerMemberResponse>> memberRankers = new EnumMap<>(RankDimension.class);
+            for (RankSnapshot row : rows) {
+                if (TEAM.equals(row.getCategory())) {
+                    teamRankers.add(new RankerTeamResponse(row.getSubjectId(), row.getProfileUrl(), row.getName(),
+                            row.getPoint(), row.getRanking()));
+                    continue;
+                }
+                final RankDimension dimension = RankDimension.find(row.getCategory());
+                if (dimension != null) {
+                    memberRankers.computeIfAbsent(dimension, key -> new ArrayList<>())
+                            .add(new RankerMemberResponse(row.getSubjectId(), row.getProfileUrl(), row.getName(),
+                                    row.getPosition(), row.getMvpPoint(), row.getPoint(), row.getRanking()));
+                }
+            }
+            final RankSnapshot first = rows.get(0);
+            return new Snapshot(first.getGeneration(), first.getCreatedDate(), teamRankers, memberRankers);
+        }
+    }
+}
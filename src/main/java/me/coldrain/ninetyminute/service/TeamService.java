@@ -1,6 +1,9 @@
 package me.coldrain.ninetyminute.service;
 
 import lombok.RequiredArgsConstructor;
+import me.coldrain.ninetyminute.cache.TeamDetailCache;
+import me.coldrain.ninetyminute.cache.TeamListCache;
+import me.coldrain.ninetyminute.dto.TeamDetail;
 import me.coldrain.ninetyminute.dto.TeamListSearch;
 import me.coldrain.ninetyminute.dto.TeamListSearchCondition;
 import me.coldrain.ninetyminute.dto.request.*;
@@ -8,9 +11,14 @@ import me.coldrain.ninetyminute.dto.response.ApplyTeamResponse;
 import me.coldrain.ninetyminute.dto.response.ParticipatedTeamMemberResponse;
 import me.coldrain.ninetyminute.dto.response.TeamDuplicateResponse;
 import me.coldrain.ninetyminute.dto.response.TeamInfoResponse;
+import me.coldrain.ninetyminute.dto.response.TeamNameSuggestionResponse;
 import me.coldrain.ninetyminute.entity.*;
+import me.coldrain.ninetyminute.event.TeamChangedEvent;
 import me.coldrain.ninetyminute.repository.*;
+import me.coldrain.ninetyminute.search.TeamNameTrie;
 import me.coldrain.ninetyminute.security.UserDetailsImpl;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
@@ -23,11 +31,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TeamService {
+    private static final int SUGGESTION_SIZE = 10;
+    private static final int MAX_SUGGESTION_SIZE = 20;
 
     private final TeamRepository teamRepository;
     private final TeamQueryRepository teamQueryRepository;
@@ -37,9 +48,12 @@ public class TeamService {
     private final ParticipationRepository participationRepository;
     private final ApplyRepository applyRepository;
     private final HistoryRepository historyRepository;
-    private final BeforeMatchingRepository beforeMatchingRepository;
     private final MemberRepository memberRepository;
     private final AwsS3Service awsS3Service;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeamListCache teamListCache;
+    private final TeamDetailCache teamDetailCache;
+    private final TeamNameTrie teamNameTrie;
 
     @Transactional
     public void registerTeam(final TeamRegisterRequest request, final Long memberId) {
@@ -66,6 +80,8 @@ public class TeamService {
                 .match(false)
                 .record(emptyRecord)
                 .build();
+        team.updateAvailability(Availability.encode(request.getWeekday(), request.getTime()));
+        team.updateLocation(request.getLatitude(), request.getLongitude());
 
         teamRepository.save(team);
         member.setOpenTeam(team);
@@ -87,138 +103,104 @@ public class TeamService {
                 .build();
 
         participationRepository.save(participation);
+        teamRepository.increaseApprovedMemberCount(team.getId());
+        eventPublisher.publishEvent(TeamChangedEvent.of(team));
     }
 
     public ResponseEntity<?> infoTeam(Long teamId, UserDetailsImpl userDetails) {
-        Optional<Team> found = teamRepository.findByIdAndDeletedFalse(teamId);
-        if (found.isEmpty()) {
+        // 조회자와 무관한 부분은 팀 단위 캐시, 캐시에 없으면 고정된 개수의 쿼리로 조회
+        final TeamDetail detail = teamDetailCache.get(teamId, this::loadTeamDetail);
+        if (detail == null) {
             return new ResponseEntity<>("존재하지 않는 팀입니다.", HttpStatus.BAD_REQUEST);
         }
 
-        Team infoTeam = teamRepository.findByIdAndDeletedFalse(teamId).orElseThrow();
-
-        List<String> teamWeekDays = new ArrayList<>();
-        List<Weekday> teamWeekdayList = weekdayRepository.findAllByTeamId(teamId);
-        for (Weekday weekday : teamWeekdayList) {
-            teamWeekDays.add(weekday.getWeekday());
-        }
-
-        List<String> teamTimes = new ArrayList<>();
-        List<Time> teamTimeList = timeRepository.findAllByTeamId(teamId);
-        for (Time time : teamTimeList) {
-            teamTimes.add(time.getTime());
-        }
-
-        int headCount = participationRepository.findAllByTeamIdTrue(teamId).size();
-
+        final Member viewer = userDetails.getUser();
         boolean teamCaptain = false;
         boolean otherCaptain = false;
-        boolean approved = false;
-        boolean participate = false;
         boolean matching = false;
         boolean apply = false;
 
-        if (userDetails.getUser().getOpenTeam() != null) {
-            if (teamId.equals(userDetails.getUser().getOpenTeam().getId())) {
+        if (viewer.getOpenTeam() != null) {
+            if (teamId.equals(viewer.getOpenTeam().getId())) {
                 teamCaptain = true;
             } else {
                 otherCaptain = true;
-                Optional<Apply> matchingCheck = applyRepository.findByApplyTeamIdAndTeamIdTrue(userDetails.getUser().getOpenTeam().getId(), teamId);
-                if (matchingCheck.isPresent()) {
-                    matching = true;
-                    apply = true;
-                }
-
-                Optional<Apply> applyCheck = applyRepository.findByApplyTeamIdAndTeamId(userDetails.getUser().getOpenTeam().getId(), teamId);
-                if (applyCheck.isPresent()) {
-                    apply = true;
-                }
+                final List<Boolean> applies = applyRepository.findApprovedByApplyTeamIdAndTeamId(viewer.getOpenTeam().getId(), teamId);
+                apply = !applies.isEmpty();
+                matching = applies.contains(Boolean.TRUE);
             }
         }
 
-        Optional<Participation> approvedTeamMember = participationRepository.findByMemberIdAndTeamIdTrue(userDetails.getUser().getId(), teamId);
-        if (approvedTeamMember.isPresent()) {
-            approved = true;
-        }
-
-        Optional<Participation> participateTeam = participationRepository.findByTeamIdAndMemberId(teamId, userDetails.getUser().getId());
-        if (participateTeam.isPresent()) {
-            participate = true;
-        }
-
-        TeamInfoResponse.RecentMatchHistory recentMatchHistory = new TeamInfoResponse.RecentMatchHistory();
-
-        List<BeforeMatching> recentTeamBeforeMatchingList = beforeMatchingRepository.findByRecentTeamBeforeMatching(teamId);
-        List<BeforeMatching> recentOpposingTeamBeforeMatchingList = beforeMatchingRepository.findByRecentOpposingTeamBeforeMatching(teamId);
-
-        if (recentTeamBeforeMatchingList.size()!=0 || recentOpposingTeamBeforeMatchingList.size()!=0) {
-            BeforeMatching recentBeforeMatching;
-
-            if (recentTeamBeforeMatchingList.size() == 0) {
-                recentBeforeMatching = recentOpposingTeamBeforeMatchingList.get(0);
-            } else if (recentOpposingTeamBeforeMatchingList.size() == 0) {
-                recentBeforeMatching = recentTeamBeforeMatchingList.get(0);
-            } else if (recentTeamBeforeMatchingList.get(0).getMatchDate().after(recentOpposingTeamBeforeMatchingList.get(0).getMatchDate())) {
-                recentBeforeMatching = recentTeamBeforeMatchingList.get(0);
-            } else {
-                recentBeforeMatching = recentOpposingTeamBeforeMatchingList.get(0);
-            }
-
-            History recentHistory = historyRepository.findByRecentHistory(recentBeforeMatching.getId()).orElseThrow();
-
-            TeamInfoResponse.RecentMatchHistory.Team recentMatchHistoryTeam = new TeamInfoResponse.RecentMatchHistory.Team(
-                    recentHistory.getBeforeMatching().getTeamName(),
-                    recentHistory.getAfterMatching().getResult(),
-                    recentHistory.getAfterMatching().getScore()
-            );
-
-            TeamInfoResponse.RecentMatchHistory.OpposingTeam recentMatchHistoryOpposingTeam = new TeamInfoResponse.RecentMatchHistory.OpposingTeam(
-                    recentHistory.getBeforeMatching().getOpposingTeamName(),
-                    recentHistory.getAfterMatching().getOpponentResult(),
-                    recentHistory.getAfterMatching().getOpponentScore()
-            );
-
-            recentMatchHistory.setHistoryId(recentHistory.getId());
-            recentMatchHistory.setMatchDate(recentBeforeMatching.calculatedDate());
-            recentMatchHistory.setTeam(recentMatchHistoryTeam);
-            recentMatchHistory.setOpposingTeam(recentMatchHistoryOpposingTeam);
-        } else {
-            recentMatchHistory = null;
-        }
+        final Optional<Participation> participation = participationRepository.findByTeamIdAndMemberId(teamId, viewer.getId());
+        final boolean participate = participation.isPresent();
+        final boolean approved = participation.map(Participation::getApproved).orElse(false);
 
         TeamInfoResponse teamInfoResponse = new TeamInfoResponse(
-                infoTeam.getId(),
-                infoTeam.getName(),
-                infoTeam.getIntroduce(),
-                infoTeam.getTeamProfileUrl(),
-                infoTeam.getRecruit(),
-                infoTeam.getMatches(),
-                infoTeam.getRecord().getWinPoint(),
-                infoTeam.getRecord().getTotalGameCount(),
-                infoTeam.getRecord().getWinCount(),
-                infoTeam.getRecord().getDrawCount(),
-                infoTeam.getRecord().getLoseCount(),
-                infoTeam.getRecord().getWinRate(),
-                infoTeam.getMainArea(),
-                infoTeam.getPreferredArea(),
-                teamWeekDays,
-                teamTimes,
-                headCount,
+                detail.getTeamId(),
+                detail.getTeamName(),
+                detail.getIntroduce(),
+                detail.getTeamImageFileUrl(),
+                detail.isRecruit(),
+                detail.isMatch(),
+                detail.getWinPoint(),
+                detail.getTotalGameCount(),
+                detail.getWinCount(),
+                detail.getDrawCount(),
+                detail.getLoseCount(),
+                detail.getWinRate(),
+                detail.getMainArea(),
+                detail.getPreferredArea(),
+                new ArrayList<>(detail.getWeekdays()),
+                new ArrayList<>(detail.getTime()),
+                detail.getHeadCount(),
                 teamCaptain,
                 otherCaptain,
                 approved,
                 participate,
                 matching,
                 apply,
-                recentMatchHistory,
-                infoTeam.getCreatedDate(),
-                infoTeam.getModifiedDate()
+                detail.recentMatchHistory(),
+                detail.getCreatedDate(),
+                detail.getModifiedDate()
         );
         return new ResponseEntity<>(teamInfoResponse, HttpStatus.OK);
     }
 
+    // 팀+전적, 요일, 시간대, 최근 경기(팀의 lastHistoryId 로 기본 키 조회) (쿼리 최대 4개), 해체되었거나 없는 팀이면 null
+    private TeamDetail loadTeamDetail(Long teamId) {
+        final Team team = teamRepository.findWithRecordById(teamId).orElse(null);
+        if (team == null) {
+            return null;
+        }
+        final List<String> weekdays = weekdayRepository.findAllByTeamId(teamId).stream()
+                .map(Weekday::getWeekday)
+                .collect(Collectors.toList());
+        final List<String> times = timeRepository.findAllByTeamId(teamId).stream()
+                .map(Time::getTime)
+                .collect(Collectors.toList());
+        final History recentHistory = team.getLastHistoryId() != null
+                ? historyRepository.findWithMatchingsById(team.getLastHistoryId()).orElse(null)
+                : null;
+        return TeamDetail.of(team, weekdays, times, recentHistory);
+    }
+
+    //팀 이름 자동완성, 색인 적재 전에는 DB 에서 prefix 조회
+    public List<TeamNameSuggestionResponse> suggestTeamNames(final String prefix, final Integer size) {
+        final int limit = size == null || size <= 0 ? SUGGESTION_SIZE : Math.min(size, MAX_SUGGESTION_SIZE);
+        if (prefix == null || prefix.isBlank()) {
+            return new ArrayList<>();
+        }
+        if (teamNameTrie.isLoaded()) {
+            return teamNameTrie.suggest(prefix, limit);
+        }
+        return teamRepository.findAllByNamePrefix(prefix.trim(), PageRequest.of(0, limit)).stream()
+                .map(team -> new TeamNameSuggestionResponse(team.getId(), team.getName()))
+                .collect(Collectors.toList());
+    }
+
     public Slice<TeamListSearch> searchTeamList(final TeamListSearchCondition searchCondition, final Pageable pageable) {
-        return teamQueryRepository.findAllTeamListSearch(searchCondition, pageable);
+        return teamListCache.get(searchCondition, pageable,
+                () -> teamQueryRepository.findAllTeamListSearch(searchCondition, pageable));
     }
 
     public String findQuestionByTeamId(final Long teamId) {
@@ -252,6 +234,7 @@ public class TeamService {
 
         team.changeRecruit(true);
         team.setQuestion(request.getQuestion());
+        eventPublisher.publishEvent(TeamChangedEvent.of(team));
     }
 
     @Transactional
@@ -271,6 +254,7 @@ public class TeamService {
 
         team.changeRecruit(false);
         team.setQuestion(null);
+        eventPublisher.publishEvent(TeamChangedEvent.of(team));
     }
 
     @Transactional
@@ -288,6 +272,7 @@ public class TeamService {
         }
 
         team.changeMatch(true);
+        eventPublisher.publishEvent(TeamChangedEvent.of(team));
     }
 
     @Transactional
@@ -305,6 +290,7 @@ public class TeamService {
         }
 
         team.changeMatch(false);
+        eventPublisher.publishEvent(TeamChangedEvent.of(team));
     }
 
     @Transactional
@@ -324,6 +310,8 @@ public class TeamService {
         }
 
         participationRepository.delete(participation);
+        teamRepository.decreaseApprovedMemberCount(teamId);
+        eventPublisher.publishEvent(TeamChangedEvent.of(participation.getTeam()));
     }
 
     @Transactional
@@ -378,43 +366,67 @@ public class TeamService {
             final Participation participation = participationRepository.findByMemberIdAndTeamIdTrue(memberId, teamId)
                     .orElseThrow(() -> new IllegalArgumentException("참여에 존재하지 않습니다."));
             participationRepository.delete(participation);
+            teamRepository.decreaseApprovedMemberCount(teamId);
+            eventPublisher.publishEvent(TeamChangedEvent.of(participation.getTeam()));
             return new ResponseEntity<>("추방이 완료되었습니다.", HttpStatus.OK);
         } else {
             return new ResponseEntity<>("해당 팀의 개설자가 아닙니다.", HttpStatus.BAD_REQUEST);
         }
     }
 
+    @Transactional
     public void modifyTeam(final Long teamId, final TeamModifyRequest request, final Long id) {
-        final Team team = teamRepository.findById(teamId)
+        final Team team = teamRepository.findByIdAndDeletedFalse(teamId)
                 .orElseThrow(() -> new IllegalArgumentException("팀을 찾을 수 없습니다."));
 
+        final Member member = memberRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
+        if (member.getOpenTeam() == null) {
+            throw new IllegalArgumentException("개설된 팀이 없습니다.");
+        }
+        final Long openTeamId = member.getOpenTeam().getId();
+        if (!openTeamId.equals(teamId)) {
+            throw new IllegalArgumentException("팀 개설자만 팀 정보를 수정할 수 있습니다.");
+        }
+
         // 기존 파일 삭제
         awsS3Service.deleteFile(team.getTeamProfileUrl());
 
         // 파일 신규 저장
         final Map<String, String> uploadFile = awsS3Service.uploadFile(request.getTeamImageFile());
 
-        // 기존 weekdays, time 제거
+        // 기존 weekdays, time 제거 후 새로 저장 (Team 의 컬렉션은 cascade 가 없으므로 직접 저장)
         weekdayRepository.findAllByTeamId(teamId)
                 .forEach(wd -> weekdayRepository.deleteById(wd.getId()));
         timeRepository.findAllByTeamId(teamId)
                 .forEach(t -> timeRepository.deleteById(t.getId()));
 
+        final List<String> weekdays = request.getWeekdays() != null ? request.getWeekdays() : new ArrayList<>();
+        final List<String> times = request.getTime() != null ? request.getTime() : new ArrayList<>();
+        final List<Weekday> savedWeekdays = weekdayRepository.saveAll(weekdays.stream()
+                .map(weekday -> new Weekday(weekday, team))
+                .collect(Collectors.toList()));
+        final List<Time> savedTimes = timeRepository.saveAll(times.stream()
+                .map(time -> new Time(time, team))
+                .collect(Collectors.toList()));
+
         team.modifyTeam(
                 uploadFile.get("url"),
                 request.getIntroduce(),
                 request.getMainArea(),
                 request.getPreferredArea(),
-                request.getWeekdays(),
-                request.getTime()
+                savedWeekdays,
+                savedTimes
         );
+        team.updateLocation(request.getLatitude(), request.getLongitude());
+        eventPublisher.publishEvent(TeamChangedEvent.of(team));
     }
 
     public List<ApplyTeamResponse> searchApplyTeams(Member member) {
         List<Participation> participationList = participationRepository.findAllByMemberIdApprovedFalse(member.getId());
         List<ApplyTeamResponse> applyTeamResponseList = new ArrayList<>();
         for (Participation participation : participationList) {
-            Integer teamMemberCnt = participationRepository.findAllByTeamIdTrue(participation.getTeam().getId()).size();
+            Integer teamMemberCnt = participation.getTeam().getApprovedMemberCount();
             ApplyTeamResponse applyTeamResponse = ApplyTeamResponse.builder()
                     .teamId(participation.getTeam().getId())
                     .isCaptain(false)
@@ -458,6 +470,7 @@ public class TeamService {
                 }
             }
             teamRepository.deleteById(teamId);
+            eventPublisher.publishEvent(TeamChangedEvent.disbanded(teamId));
             Member my = memberRepository.findById(member.getId()).orElseThrow(
                     () -> new IllegalArgumentException("해당 맴버를 찾을 수 없습니다."));
             my.setOpenTeam(null);
@@ -0,0 +1,29 @@
+-- 리포지토리 쿼리의 WHERE / ORDER BY 조건에 맞춘 복합 인덱스
+-- 테이블은 JPA 가 만들기 때문에 FlywayMigrationRunner 가 EntityManagerFactory 초기화 이후에 실행한다.
+-- 외래 키 단일 컬럼 인덱스는 MariaDB(InnoDB) 가 자동으로 만들기 때문에 여기서는 복합 인덱스만 정의한다.
+
+-- 팀원 / 참여 신청 목록 (ParticipationRepository)
+CREATE INDEX IF NOT EXISTS idx_participation_team_approved ON participation (team_id, approved);
+CREATE INDEX IF NOT EXISTS idx_participation_member_approved ON participation (member_id, approved);
+
+-- 대결 신청 / 성사된 대결 / 끝난 대결 (ApplyRepository, BeforeMatchingRepository)
+CREATE INDEX IF NOT EXISTS idx_apply_team_status ON apply (team_id, approved, end_match_status, opposing_team_end_match_status);
+CREATE INDEX IF NOT EXISTS idx_apply_apply_team_status ON apply (apply_team_id, approved, end_match_status, opposing_team_end_match_status);
+CREATE INDEX IF NOT EXISTS idx_apply_team_created ON apply (team_id, created_date);
+
+-- 경기 출전 선수 (FieldMemberRepository, SubstituteRepository)
+CREATE INDEX IF NOT EXISTS idx_field_member_team_before ON field_member (team_id, before_matching_id, anonymous);
+CREATE INDEX IF NOT EXISTS idx_field_member_team_after ON field_member (team_id, after_matching_id);
+CREATE INDEX IF NOT EXISTS idx_field_member_member_team ON field_member (member_id, team_id);
+CREATE INDEX IF NOT EXISTS idx_substitute_member_team_after ON substitute_member (team_id, after_matching_id, anonymous);
+
+-- 경기 결과 (AfterMatchingRepository, ScorerRepository)
+CREATE INDEX IF NOT EXISTS idx_after_matching_before_admit ON after_matching (before_matching_id, admit_status);
+CREATE INDEX IF NOT EXISTS idx_scorer_after_team ON scorer (after_matching_id, team_id);
+
+-- 팀 목록 최신순, 팀 이름 중복 확인 / 자동완성 (TeamQueryRepository, TeamRepository)
+CREATE INDEX IF NOT EXISTS idx_team_deleted_created ON team (deleted, created_date);
+CREATE INDEX IF NOT EXISTS idx_team_deleted_name ON team (deleted, name);
+
+-- 포지션 랭킹 후보 (MemberRepository)
+CREATE INDEX IF NOT EXISTS idx_member_secession_position ON member (secession_state, position);
@@ -0,0 +1,19 @@
+-- team.last_history_id / last_match_date 컬럼 추가 이전에 끝난 경기를 채워 넣는다.
+-- 이후에는 MatchingService.writeMatchResult 가 경기 결과를 저장할 때 두 팀의 값을 갱신한다.
+
+UPDATE team t
+SET last_history_id = (SELECT h.history_id
+                       FROM history h
+                                JOIN before_matching bm ON bm.before_matching_id = h.before_matching_id
+                       WHERE h.team_id = t.team_id OR h.opposing_team_id = t.team_id
+                       ORDER BY bm.match_date DESC, h.history_id DESC
+                       LIMIT 1)
+WHERE t.last_history_id IS NULL;
+
+UPDATE team t
+SET last_match_date = (SELECT bm.match_date
+                       FROM history h
+                                JOIN before_matching bm ON bm.before_matching_id = h.before_matching_id
+                       WHERE h.history_id = t.last_history_id)
+WHERE t.last_history_id IS NOT NULL
+  AND t.last_match_date IS NULL;
@@ -0,0 +1,9 @@
+-- team.approved_member_count 컬럼 추가 이전에 만들어진 팀의 승인된 팀원 수를 한 번 채운다.
+-- 이후에는 승인/탈퇴/추방 시점에 TeamRepository 의 증감 쿼리로 유지된다.
+
+UPDATE team t
+SET approved_member_count = (SELECT COUNT(*)
+                             FROM participation p
+                             WHERE p.team_id = t.team_id
+                               AND p.approved = TRUE)
+WHERE t.approved_member_count IS NULL;
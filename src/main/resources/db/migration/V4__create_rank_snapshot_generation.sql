@@ -0,0 +1,12 @@
+-- 랭킹 스냅샷 generation 발급용 단일 행 테이블.
+-- RankSnapshotService 가 갱신할 때 이 행을 FOR UPDATE 로 잠그므로, 여러 인스턴스가 같은 generation 을 만들지 않는다.
+
+CREATE TABLE IF NOT EXISTS rank_snapshot_generation
+(
+    id         INT    NOT NULL PRIMARY KEY,
+    generation BIGINT NOT NULL
+);
+
+INSERT INTO rank_snapshot_generation (id, generation)
+SELECT 1, COALESCE(MAX(generation), 0)
+FROM rank_snapshot;
@@ -0,0 +1,23 @@
+-- team.availability 컬럼 추가 이전에 만들어진 팀의 활동 요일/시간대 비트를 한 번 채운다 (Availability 참고).
+-- 요일/시간대마다 비트 값이 다르므로 SUM(DISTINCT ...) 가 비트 OR 와 같다. 알 수 없는 값은 0 으로 무시한다.
+-- 이후에는 팀 생성/수정 시점에 Team 이 직접 계산한다.
+
+UPDATE team t
+SET availability = COALESCE((SELECT SUM(DISTINCT CASE UPPER(w.weekday)
+                                                     WHEN 'MON' THEN 1
+                                                     WHEN 'TUE' THEN 2
+                                                     WHEN 'WED' THEN 4
+                                                     WHEN 'THU' THEN 8
+                                                     WHEN 'FRI' THEN 16
+                                                     WHEN 'SAT' THEN 32
+                                                     WHEN 'SUN' THEN 64
+                                                     ELSE 0 END)
+                             FROM weekday w
+                             WHERE w.team_id = t.team_id), 0)
+                 + COALESCE((SELECT SUM(DISTINCT CASE LOWER(tm.time)
+                                                     WHEN 'am' THEN 128
+                                                     WHEN 'pm' THEN 256
+                                                     ELSE 0 END)
+                             FROM time tm
+                             WHERE tm.team_id = t.team_id), 0)
+WHERE t.availability IS NULL;
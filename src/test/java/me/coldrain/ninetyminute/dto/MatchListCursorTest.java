@@ -0,0 +1,35 @@
+package me.coldrain.ninetyminute.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchListCursorTest {
+
+    @Test
+    void roundTrip() {
+        final LocalDateTime date = LocalDateTime.of(2022, 8, 15, 19, 30, 0, 500_000_000);
+
+        final MatchListCursor decoded = MatchListCursor.decode(new MatchListCursor(date, 42L).encode());
+        assertEquals(date, decoded.getDate());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    void missingCursorStartsAfterEveryRow() {
+        for (String cursor : new String[]{null, "", "  "}) {
+            final MatchListCursor first = MatchListCursor.decode(cursor);
+            assertTrue(first.getDate().isAfter(LocalDateTime.of(9999, 1, 1, 0, 0)));
+            assertEquals(Long.MAX_VALUE, first.getId());
+        }
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> MatchListCursor.decode("not base64!"));
+        assertThrows(IllegalArgumentException.class,
+                () -> MatchListCursor.decode(new TeamListCursor(TeamListCursor.SORT_LATEST, null, LocalDateTime.now(), 1L).encode()));
+    }
+}
@@ -0,0 +1,73 @@
+package me.coldrain.ninetyminute.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamListCursorTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2022, 7, 1, 12, 30, 15, 123_000_000);
+
+    @Test
+    void roundTrip() {
+        final String encoded = TeamListCursor.of(TeamListCursor.SORT_WIN_RATE_DESC, last(62.5)).encode();
+
+        final TeamListCursor decoded = TeamListCursor.decode(encoded, TeamListCursor.SORT_WIN_RATE_DESC);
+        assertEquals(TeamListCursor.SORT_WIN_RATE_DESC, decoded.getSort());
+        assertEquals(62.5, decoded.getWinRate());
+        assertEquals(CREATED, decoded.getCreatedDate());
+        assertEquals(7L, decoded.getTeamId());
+    }
+
+    @Test
+    void cursorOfOtherSortIsRejected() {
+        final String encoded = TeamListCursor.of(TeamListCursor.SORT_LATEST, last(62.5)).encode();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> TeamListCursor.decode(encoded, TeamListCursor.SORT_WIN_RATE_ASC));
+    }
+
+    @Test
+    void missingWinRateIsStoredAsNoWinRate() {
+        final String encoded = TeamListCursor.of(TeamListCursor.SORT_WIN_RATE_ASC, last(null)).encode();
+
+        assertEquals(TeamListCursor.NO_WIN_RATE,
+                TeamListCursor.decode(encoded, TeamListCursor.SORT_WIN_RATE_ASC).getWinRate());
+    }
+
+    @Test
+    void nullWinRateIsRejectedOnlyForWinRateSort() {
+        final String latest = raw(TeamListCursor.SORT_LATEST + "|null|" + CREATED + "|7");
+        assertNull(TeamListCursor.decode(latest, TeamListCursor.SORT_LATEST).getWinRate());
+
+        final String winRate = raw(TeamListCursor.SORT_WIN_RATE_DESC + "|null|" + CREATED + "|7");
+        assertThrows(IllegalArgumentException.class,
+                () -> TeamListCursor.decode(winRate, TeamListCursor.SORT_WIN_RATE_DESC));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TeamListCursor.decode("not base64!", TeamListCursor.SORT_LATEST));
+        assertThrows(IllegalArgumentException.class,
+                () -> TeamListCursor.decode(raw(TeamListCursor.SORT_LATEST + "|1.0|" + CREATED), TeamListCursor.SORT_LATEST));
+        assertThrows(IllegalArgumentException.class,
+                () -> TeamListCursor.decode(raw(TeamListCursor.SORT_WIN_RATE_DESC + "|NaN|" + CREATED + "|7"), TeamListCursor.SORT_WIN_RATE_DESC));
+    }
+
+    private TeamListSearch last(Double winRate) {
+        final TeamListSearch last = new TeamListSearch();
+        last.setTeamId(7L);
+        last.setWinRate(winRate);
+        last.setCreatedDate(CREATED);
+        return last;
+    }
+
+    private String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
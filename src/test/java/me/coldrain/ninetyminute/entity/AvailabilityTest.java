@@ -0,0 +1,38 @@
+package me.coldrain.ninetyminute.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvailabilityTest {
+
+    @Test
+    void weekdaysUseLowBitsAndTimesTheBitsAbove() {
+        assertEquals(1, Availability.encode(List.of("MON"), null));
+        assertEquals(1 << 6, Availability.encode(List.of("SUN"), null));
+        assertEquals(1 << 7, Availability.encode(null, List.of("am")));
+        assertEquals((1 << 5) | (1 << 6) | (1 << 8), Availability.encode(List.of("SAT", "SUN"), List.of("pm")));
+    }
+
+    @Test
+    void encodeIgnoresCaseDuplicatesAndUnknownValues() {
+        assertEquals(Availability.encode(List.of("MON"), List.of("am")),
+                Availability.encode(List.of("mon", "MON", "HOLIDAY"), List.of("AM", "night")));
+        assertEquals(0, Availability.encode(null, null));
+    }
+
+    @Test
+    void masksMatchEncodedTeamsAndRejectUnknownValues() {
+        final int team = Availability.encode(List.of("TUE", "FRI"), List.of("pm"));
+
+        assertNotEquals(0, team & Availability.weekdayMask(List.of("FRI", "SAT")));
+        assertEquals(0, team & Availability.weekdayMask(List.of("SAT", "SUN")));
+        assertNotEquals(0, team & Availability.timeMask(List.of("pm")));
+        assertEquals(0, team & Availability.timeMask(List.of("am")));
+
+        assertEquals(Availability.UNKNOWN, Availability.weekdayMask(List.of("MON", "HOLIDAY")));
+        assertEquals(Availability.UNKNOWN, Availability.timeMask(List.of("night")));
+    }
+}
@@ -0,0 +1,40 @@
+package me.coldrain.ninetyminute.rank;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DenseRankingTest {
+
+    @Test
+    void topByPointGivesTiesTheSameRankWithoutGaps() {
+        final List<Integer> points = List.of(10, 10, 8, 7, 7, 7, 3);
+
+        assertEquals(List.of(1, 1, 2, 3, 3),
+                DenseRanking.topByPoint(points, 5, point -> point, (point, rank) -> rank));
+    }
+
+    @Test
+    void topByPointReturnsEverythingWhenSizeIsLarger() {
+        assertEquals(List.of(1, 2), DenseRanking.topByPoint(List.of(5, 4), 10, point -> point, (point, rank) -> rank));
+        assertTrue(DenseRanking.topByPoint(List.<Integer>of(), 10, point -> point, (point, rank) -> rank).isEmpty());
+    }
+
+    @Test
+    void topComparesEveryScoreColumn() {
+        final List<TeamRankEntry> ordered = List.of(
+                entry(1L, 9, 75.0),
+                entry(2L, 9, 75.0),
+                entry(3L, 9, 50.0),
+                entry(4L, 6, 100.0));
+
+        assertEquals(List.of(1, 1, 2, 3),
+                DenseRanking.top(ordered, 10, TeamRankEntry.SCORE_ORDER, (entry, rank) -> rank));
+    }
+
+    private TeamRankEntry entry(Long teamId, int winPoint, double winRate) {
+        return new TeamRankEntry(teamId, "team" + teamId, null, "서울", winPoint, winRate);
+    }
+}
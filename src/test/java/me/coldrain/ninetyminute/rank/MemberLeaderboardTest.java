@@ -0,0 +1,74 @@
+package me.coldrain.ninetyminute.rank;
+
+import me.coldrain.ninetyminute.dto.response.RankerMemberResponse;
+import me.coldrain.ninetyminute.entity.Ability;
+import me.coldrain.ninetyminute.entity.Member;
+import me.coldrain.ninetyminute.entity.MemberRoleEnum;
+import me.coldrain.ninetyminute.event.MemberChangedEvent;
+import me.coldrain.ninetyminute.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class MemberLeaderboardTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final MemberLeaderboard leaderboard = new MemberLeaderboard(memberRepository);
+
+    // 커밋 이후 리스너가 늦게 실행되어 오래된 이벤트가 나중에 도착해도 최신 값을 유지한다
+    @Test
+    void olderEventDoesNotOverwriteNewerOne() {
+        load();
+        final MemberChangedEvent older = changed(1L, 3, false);
+        final MemberChangedEvent newer = changed(1L, 5, false);
+
+        leaderboard.onMemberChanged(newer);
+        leaderboard.onMemberChanged(older);
+
+        final List<RankerMemberResponse> top = leaderboard.top(RankDimension.STRIKER, 10);
+        assertEquals(1, top.size());
+        assertEquals(5, top.get(0).getAbilityPoint());
+    }
+
+    @Test
+    void olderEventDoesNotRestoreWithdrawnMember() {
+        load();
+        final MemberChangedEvent older = changed(1L, 3, false);
+        leaderboard.onMemberChanged(changed(1L, 3, true));
+        leaderboard.onMemberChanged(older);
+
+        assertTrue(leaderboard.top(RankDimension.MVP, 10).isEmpty());
+        assertNull(leaderboard.rankOf(RankDimension.STRIKER, 1L));
+    }
+
+    // 적재 조회 전에 만든 이벤트는 적재 결과에 이미 반영된 값으로 본다
+    @Test
+    void eventCreatedBeforeLoadIsIgnored() {
+        final MemberChangedEvent beforeLoad = changed(1L, 3, false);
+        load();
+
+        leaderboard.onMemberChanged(beforeLoad);
+
+        assertTrue(leaderboard.top(RankDimension.STRIKER, 10).isEmpty());
+    }
+
+    private void load() {
+        given(memberRepository.findAllWithAbility()).willReturn(List.of());
+        leaderboard.load();
+    }
+
+    private MemberChangedEvent changed(Long memberId, int strikerPoint, boolean secession) {
+        final Member member = new Member("user" + memberId, "password", MemberRoleEnum.USER, null);
+        ReflectionTestUtils.setField(member, "id", memberId);
+        ReflectionTestUtils.setField(member, "nickname", "nick" + memberId);
+        ReflectionTestUtils.setField(member, "position", RankDimension.STRIKER.getKey());
+        ReflectionTestUtils.setField(member, "secessionState", secession);
+        ReflectionTestUtils.setField(member, "ability", new Ability(strikerPoint, 0, 0, 0, 0, 0));
+        return MemberChangedEvent.of(member);
+    }
+}
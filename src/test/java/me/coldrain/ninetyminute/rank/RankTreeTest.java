@@ -0,0 +1,78 @@
+package me.coldrain.ninetyminute.rank;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankTreeTest {
+
+    // 점수가 높을수록 앞선다
+    private final RankTree<Integer> tree = new RankTree<>(Comparator.reverseOrder());
+
+    @Test
+    void tiesShareRank() {
+        tree.add(100);
+        tree.add(90);
+        tree.add(90);
+        tree.add(80);
+
+        assertEquals(1, tree.denseRank(100));
+        assertEquals(2, tree.denseRank(90));
+        assertEquals(3, tree.denseRank(80));
+        assertEquals(3, tree.distinctSize());
+    }
+
+    @Test
+    void absentKeyGetsRankItWouldHave() {
+        tree.add(100);
+        tree.add(80);
+
+        assertEquals(1, tree.denseRank(120));
+        assertEquals(2, tree.denseRank(90));
+        assertEquals(3, tree.denseRank(70));
+    }
+
+    @Test
+    void removeDropsKeyOnlyWhenLastCopyIsRemoved() {
+        tree.add(100);
+        tree.add(90);
+        tree.add(90);
+        tree.add(80);
+
+        tree.remove(90);
+        assertEquals(2, tree.denseRank(90));
+        assertEquals(3, tree.denseRank(80));
+
+        tree.remove(90);
+        assertEquals(2, tree.denseRank(80));
+        assertEquals(2, tree.distinctSize());
+
+        tree.remove(70);
+        assertEquals(2, tree.distinctSize());
+    }
+
+    @Test
+    void matchesSortedCountsAfterRandomInsertsAndRemoves() {
+        final Random random = new Random(90);
+        final TreeMap<Integer, Integer> counts = new TreeMap<>(Comparator.reverseOrder());
+        for (int i = 0; i < 800; i++) {
+            final int point = random.nextInt(100);
+            if (random.nextInt(2) == 0) {
+                tree.remove(point);
+                counts.computeIfPresent(point, (key, count) -> count == 1 ? null : count - 1);
+            } else {
+                tree.add(point);
+                counts.merge(point, 1, Integer::sum);
+            }
+        }
+
+        assertEquals(counts.size(), tree.distinctSize());
+        for (int point = -1; point <= 100; point++) {
+            assertEquals(counts.headMap(point).size() + 1, tree.denseRank(point), "point = " + point);
+        }
+    }
+}
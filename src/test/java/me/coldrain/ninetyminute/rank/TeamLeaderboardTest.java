@@ -0,0 +1,76 @@
+package me.coldrain.ninetyminute.rank;
+
+import me.coldrain.ninetyminute.dto.response.RankerTeamResponse;
+import me.coldrain.ninetyminute.entity.Record;
+import me.coldrain.ninetyminute.entity.Team;
+import me.coldrain.ninetyminute.event.TeamChangedEvent;
+import me.coldrain.ninetyminute.repository.TeamRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TeamLeaderboardTest {
+
+    private final TeamRepository teamRepository = mock(TeamRepository.class);
+    private final TeamLeaderboard leaderboard = new TeamLeaderboard(teamRepository);
+
+    // 커밋 이후 리스너가 늦게 실행되어 오래된 이벤트가 나중에 도착해도 최신 값을 유지한다
+    @Test
+    void olderEventDoesNotOverwriteNewerOne() {
+        load();
+        final TeamChangedEvent older = changed(1L, 3);
+        final TeamChangedEvent newer = changed(1L, 6);
+
+        leaderboard.onTeamChanged(newer);
+        leaderboard.onTeamChanged(older);
+
+        final List<RankerTeamResponse> top = leaderboard.top(10);
+        assertEquals(1, top.size());
+        assertEquals(6, top.get(0).getWinPoint());
+    }
+
+    @Test
+    void olderEventDoesNotRestoreDisbandedTeam() {
+        load();
+        final TeamChangedEvent older = changed(1L, 3);
+        leaderboard.onTeamChanged(TeamChangedEvent.disbanded(1L));
+        leaderboard.onTeamChanged(older);
+
+        assertTrue(leaderboard.top(10).isEmpty());
+        assertNull(leaderboard.rankOf(1L));
+    }
+
+    // 적재 조회 전에 만든 이벤트는 적재 결과에 이미 반영된 값으로 본다
+    @Test
+    void eventCreatedBeforeLoadIsIgnored() {
+        final TeamChangedEvent beforeLoad = changed(1L, 3);
+        load();
+
+        leaderboard.onTeamChanged(beforeLoad);
+
+        assertTrue(leaderboard.top(10).isEmpty());
+    }
+
+    private void load() {
+        given(teamRepository.findAllWithRecord()).willReturn(List.of());
+        leaderboard.load();
+    }
+
+    private TeamChangedEvent changed(Long teamId, int winPoint) {
+        final Record record = new Record();
+        record.updateWinPoint(winPoint);
+        record.updateWinRate(50.0);
+        final Team team = Team.builder()
+                .name("team" + teamId)
+                .mainArea("서울")
+                .record(record)
+                .build();
+        ReflectionTestUtils.setField(team, "id", teamId);
+        return TeamChangedEvent.of(team);
+    }
+}
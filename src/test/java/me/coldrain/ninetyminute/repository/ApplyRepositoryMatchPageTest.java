@@ -0,0 +1,108 @@
+package me.coldrain.ninetyminute.repository;
+
+import me.coldrain.ninetyminute.config.ApplicationConfig;
+import me.coldrain.ninetyminute.dto.ApprovedMatchView;
+import me.coldrain.ninetyminute.dto.MatchListCursor;
+import me.coldrain.ninetyminute.entity.Apply;
+import me.coldrain.ninetyminute.entity.Record;
+import me.coldrain.ninetyminute.entity.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예정된 대결 목록을 cursor 로 끝까지 넘긴 결과가 한 번에 조회한 목록과 같은지,
+ * 넘기는 도중 대결이 수정되어도 빠지거나 겹치는 행이 없는지 확인한다.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import(ApplicationConfig.class)
+class ApplyRepositoryMatchPageTest {
+
+    private static final int MATCHES = 7;
+    private static final int PAGE_SIZE = 3;
+    private static final LocalDateTime CREATED = LocalDateTime.of(2022, 8, 1, 12, 0);
+
+    @Autowired
+    private ApplyRepository applyRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Team home;
+
+    @BeforeEach
+    void setUp() {
+        home = team("home");
+        for (int i = 0; i < MATCHES; i++) {
+            final Team opponent = team("opponent" + i);
+            // 홈 팀이 받은 신청과 보낸 신청을 섞는다
+            final Apply apply = em.persist(Apply.builder()
+                    .team(i % 2 == 0 ? home : opponent)
+                    .applyTeam(i % 2 == 0 ? opponent : home)
+                    .greeting("hello")
+                    .approved(true)
+                    .build());
+            em.flush();
+            // 신청 시각은 2개씩 같게 맞춘다
+            em.getEntityManager()
+                    .createNativeQuery("UPDATE apply SET created_date = :createdDate WHERE apply_id = :applyId")
+                    .setParameter("createdDate", CREATED.plusMinutes(i / 2))
+                    .setParameter("applyId", apply.getId())
+                    .executeUpdate();
+        }
+        em.clear();
+    }
+
+    @Test
+    void cursorPagesCoverEveryMatchOnceWhileMatchesChange() {
+        final MatchListCursor first = MatchListCursor.decode(null);
+        final List<ApprovedMatchView> all = applyRepository.findApprovedMatchPage(home.getId(), first.getDate(), first.getId(), Pageable.unpaged());
+        assertEquals(MATCHES, all.size());
+        all.forEach(match -> assertNotEquals(home.getId(), match.getOpposingTeamId()));
+
+        final List<Long> paged = new ArrayList<>();
+        MatchListCursor after = first;
+        List<ApprovedMatchView> page;
+        do {
+            page = applyRepository.findApprovedMatchPage(home.getId(), after.getDate(), after.getId(), PageRequest.of(0, PAGE_SIZE));
+            page.forEach(match -> paged.add(match.getApplyId()));
+            if (!page.isEmpty()) {
+                final ApprovedMatchView last = page.get(page.size() - 1);
+                after = new MatchListCursor(last.getCreatedDate(), last.getApplyId());
+                // 이미 넘긴 대결이 수정되어도 다음 페이지에 다시 나오지 않아야 한다
+                em.getEntityManager()
+                        .createNativeQuery("UPDATE apply SET modified_date = :now WHERE apply_id = :applyId")
+                        .setParameter("now", LocalDateTime.now())
+                        .setParameter("applyId", page.get(0).getApplyId())
+                        .executeUpdate();
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        assertEquals(MATCHES, new HashSet<>(paged).size());
+        assertEquals(all.stream().map(ApprovedMatchView::getApplyId).collect(Collectors.toList()), paged);
+    }
+
+    private Team team(String name) {
+        final Record record = em.persist(new Record(0, 0, 0, 0, 0.0, 0));
+        return em.persist(Team.builder()
+                .name(name)
+                .mainArea("서울")
+                .recruit(true)
+                .match(false)
+                .record(record)
+                .build());
+    }
+}
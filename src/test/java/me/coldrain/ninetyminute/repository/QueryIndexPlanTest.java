@@ -0,0 +1,141 @@
+package me.coldrain.ninetyminute.repository;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 자주 실행되는 조회 조건이 db/migration 의 인덱스를 타는지 H2 EXPLAIN 으로 확인한다.
+ * JPA 가 테이블을 만든 뒤 운영과 같은 순서로 마이그레이션을 적용하고, 실행 계획에 tableScan 이 나오면 실패한다.
+ * 리포지토리에 선언된 쿼리는 @Query 에서 꺼내(JPQL 은 Hibernate 가 만든 SQL 로 바꿔) 파라미터만 값으로 채워서 확인한다.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class QueryIndexPlanTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void migrate() {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void participationByTeam() {
+        assertUsesIndex("idx_participation_team_approved",
+                "SELECT * FROM participation WHERE team_id = 1 AND approved = TRUE");
+    }
+
+    @Test
+    void participationByMember() {
+        assertUsesIndex("idx_participation_member_approved",
+                "SELECT * FROM participation WHERE member_id = 1 AND approved = FALSE");
+    }
+
+    @Test
+    void endedApplyByTeam() {
+        assertUsesIndex("idx_apply_team_status",
+                "SELECT * FROM apply WHERE team_id = 1 AND approved = TRUE AND end_match_status = TRUE AND opposing_team_end_match_status = TRUE");
+    }
+
+    @Test
+    void endedApplyByApplyTeam() {
+        assertUsesIndex("idx_apply_apply_team_status",
+                "SELECT * FROM apply WHERE apply_team_id = 1 AND approved = TRUE AND end_match_status = TRUE AND opposing_team_end_match_status = TRUE");
+    }
+
+    @Test
+    void fieldMembersOfMatch() {
+        assertUsesIndex("idx_field_member_team_before",
+                "SELECT * FROM field_member WHERE team_id = 1 AND before_matching_id = 1 AND anonymous = FALSE");
+    }
+
+    @Test
+    void latestTeamList() {
+        assertUsesIndex("idx_team_deleted_created",
+                "SELECT * FROM team WHERE deleted = FALSE ORDER BY created_date DESC LIMIT 11");
+    }
+
+    @Test
+    void teamByName() {
+        assertUsesIndex("idx_team_deleted_name",
+                sqlOf(queryOf(TeamRepository.class, "findByTeamName", String.class)).replace("?", "'ninety'"));
+    }
+
+    @Test
+    void teamByNamePrefix() {
+        assertUsesIndex("idx_team_deleted_name",
+                sqlOf(queryOf(TeamRepository.class, "findAllByNamePrefix", String.class, Pageable.class)).replace("?", "'nin'"));
+    }
+
+    // DENSE_RANK 는 전체 팀을 정렬해야 하므로 정렬용 인덱스는 쓸 수 없고, 삭제되지 않은 팀을 인덱스로 고른 뒤 record 는 PK 로 붙는지 확인한다
+    @Test
+    void teamRankers() {
+        final String sql = queryOf(RecordRepository.class, "findRankers", int.class).replace(":size", "10");
+        assertUsesIndex("idx_team_deleted_created", sql);
+        assertUsesIndex("primary_key", sql);
+    }
+
+    @Test
+    void areaTeamRankers() {
+        final String sql = queryOf(RecordRepository.class, "findRankersByArea", String.class, int.class)
+                .replace(":area", "'서울'")
+                .replace(":size", "10");
+        assertUsesIndex("idx_team_deleted_created", sql);
+        assertUsesIndex("primary_key", sql);
+    }
+
+    @Test
+    void rankingCandidatesByPosition() {
+        assertUsesIndex("idx_member_secession_position",
+                "SELECT * FROM member WHERE secession_state = FALSE AND position = 'striker'");
+    }
+
+    private static String queryOf(Class<?> repository, String method, Class<?>... parameterTypes) {
+        try {
+            return repository.getMethod(method, parameterTypes).getAnnotation(Query.class).value();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(repository.getSimpleName() + "." + method + " 가 없습니다.", e);
+        }
+    }
+
+    // JPQL 을 Hibernate 가 실행하는 SQL 로 바꾼다 (파라미터는 ? 로 남는다)
+    private String sqlOf(String jpql) {
+        final SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        return sessionFactory.getQueryPlanCache()
+                .getHQLQueryPlan(jpql, false, Collections.emptyMap())
+                .getSqlStrings()[0];
+    }
+
+    private void assertUsesIndex(String index, String sql) {
+        final String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        assertNotNull(plan);
+        final String normalized = plan.toLowerCase(Locale.ROOT);
+        assertFalse(normalized.contains("tablescan"), () -> "full scan: " + plan);
+        assertTrue(normalized.contains(index), () -> index + " 를 사용하지 않음: " + plan);
+    }
+}
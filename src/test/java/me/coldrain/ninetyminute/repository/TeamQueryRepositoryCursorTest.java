@@ -0,0 +1,110 @@
+package me.coldrain.ninetyminute.repository;
+
+import me.coldrain.ninetyminute.config.ApplicationConfig;
+import me.coldrain.ninetyminute.config.HibernateConfig;
+import me.coldrain.ninetyminute.config.QuerydslConfig;
+import me.coldrain.ninetyminute.dto.CursorSlice;
+import me.coldrain.ninetyminute.dto.TeamListSearch;
+import me.coldrain.ninetyminute.dto.TeamListSearchCondition;
+import me.coldrain.ninetyminute.entity.Record;
+import me.coldrain.ninetyminute.entity.Team;
+import me.coldrain.ninetyminute.search.TeamSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * cursor 로 끝까지 넘긴 팀 목록이 한 번에 조회한 목록과 같은지 (빠지거나 겹치는 팀이 없는지) 확인한다.
+ * 승률과 생성 시각이 같은 팀, 승률이 비어 있는 팀을 섞어서 정렬 기준의 동률 처리까지 확인한다.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import({TeamQueryRepository.class, QuerydslConfig.class, HibernateConfig.class, ApplicationConfig.class})
+class TeamQueryRepositoryCursorTest {
+
+    private static final int TEAMS = 23;
+    private static final int PAGE_SIZE = 4;
+    private static final Double[] WIN_RATES = {null, 0.0, 50.0, 50.0, 100.0};
+    private static final LocalDateTime CREATED = LocalDateTime.of(2022, 7, 1, 12, 0);
+
+    @Autowired
+    private TeamQueryRepository teamQueryRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @MockBean
+    private TeamSearchIndex teamSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < TEAMS; i++) {
+            final Record record = new Record();
+            record.updateWinRate(WIN_RATES[i % WIN_RATES.length]);
+            em.persist(record);
+            final Team team = em.persist(Team.builder()
+                    .name("team" + i)
+                    .mainArea("서울")
+                    .recruit(true)
+                    .match(false)
+                    .record(record)
+                    .build());
+            em.flush();
+            // 생성 시각도 3개 팀씩 같게 맞춘다
+            em.getEntityManager()
+                    .createNativeQuery("UPDATE team SET created_date = :createdDate WHERE team_id = :teamId")
+                    .setParameter("createdDate", CREATED.plusMinutes(i / 3))
+                    .setParameter("teamId", team.getId())
+                    .executeUpdate();
+        }
+        em.clear();
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"desc", "asc"})
+    void cursorPagesCoverEveryTeamOnce(String winRate) {
+        final List<Long> expected = teamIds(teamQueryRepository.findAllTeamListSearch(condition(winRate), PageRequest.of(0, TEAMS + 1)));
+        assertEquals(TEAMS, expected.size());
+
+        final TeamListSearchCondition condition = condition(winRate);
+        final List<Long> paged = new ArrayList<>();
+        Slice<TeamListSearch> slice;
+        do {
+            slice = teamQueryRepository.findAllTeamListSearch(condition, PageRequest.of(0, PAGE_SIZE));
+            paged.addAll(teamIds(slice));
+            condition.setCursor(((CursorSlice<TeamListSearch>) slice).getNextCursor());
+        } while (slice.hasNext());
+
+        assertEquals(TEAMS, new HashSet<>(paged).size());
+        assertEquals(expected, paged);
+        assertNull(condition.getCursor());
+    }
+
+    private TeamListSearchCondition condition(String winRate) {
+        final TeamListSearchCondition condition = new TeamListSearchCondition();
+        condition.setWinRate(winRate);
+        return condition;
+    }
+
+    private List<Long> teamIds(Slice<TeamListSearch> slice) {
+        return slice.getContent().stream()
+                .map(TeamListSearch::getTeamId)
+                .collect(Collectors.toList());
+    }
+}
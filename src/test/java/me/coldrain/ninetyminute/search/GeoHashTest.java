@@ -0,0 +1,78 @@
+package me.coldrain.ninetyminute.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoHashTest {
+
+    private static final double KM_PER_DEGREE = Math.PI * 6371.0 / 180;
+
+    @Test
+    void encodeMatchesKnownHash() {
+        assertEquals("ezs42", GeoHash.encode(42.6, -5.6, 5));
+        assertTrue(GeoHash.encode(37.5665, 126.9780).startsWith(GeoHash.encode(37.5665, 126.9780, 5)));
+        assertEquals(GeoHash.PRECISION, GeoHash.encode(37.5665, 126.9780).length());
+    }
+
+    @Test
+    void cellsGrowWithRadius() {
+        final Set<String> near = GeoHash.coveringCells(37.5665, 126.9780, 0.1);
+        final Set<String> far = GeoHash.coveringCells(37.5665, 126.9780, 30);
+
+        assertTrue(near.stream().allMatch(cell -> cell.length() == GeoHash.PRECISION));
+        assertTrue(far.stream().allMatch(cell -> cell.length() < GeoHash.PRECISION));
+        assertTrue(near.size() <= 9 && far.size() <= 9);
+        assertTrue(near.contains(GeoHash.encode(37.5665, 126.9780, GeoHash.PRECISION)));
+    }
+
+    // (0, 0) 은 첫 글자부터 칸이 4개로 갈리는 지점이라 주변 칸이 빠지면 바로 드러난다
+    @Test
+    void coversNeighboursAcrossCellBorders() {
+        assertCovered(0.0, 0.0, 5);
+        assertCovered(0.0, 0.0, 0.1);
+        assertCovered(37.5665, 126.9780, 10);
+    }
+
+    @Test
+    void coversAcrossTheAntimeridian() {
+        assertCovered(10.0, 179.999, 5);
+        assertCovered(-10.0, -179.999, 5);
+    }
+
+    @Test
+    void distanceBetweenSeoulAndBusan() {
+        assertEquals(325, GeoHash.distanceKm(37.5665, 126.9780, 35.1796, 129.0756), 10);
+        assertEquals(0, GeoHash.distanceKm(37.5665, 126.9780, 37.5665, 126.9780), 1e-9);
+    }
+
+    @Test
+    void rejectsMissingOrOutOfRangeCoordinates() {
+        assertTrue(GeoHash.isValid(-90.0, 180.0));
+        assertFalse(GeoHash.isValid(null, 126.9780));
+        assertFalse(GeoHash.isValid(91.0, 0.0));
+        assertFalse(GeoHash.isValid(0.0, -181.0));
+    }
+
+    // 반경 안쪽 원 위의 점들이 모두 covering cell 중 하나로 시작해야 한다
+    private void assertCovered(double latitude, double longitude, double radiusKm) {
+        final Set<String> cells = GeoHash.coveringCells(latitude, longitude, radiusKm);
+        final double distance = radiusKm * 0.95;
+        for (int degree = 0; degree < 360; degree += 5) {
+            final double bearing = Math.toRadians(degree);
+            final double lat = latitude + distance / KM_PER_DEGREE * Math.cos(bearing);
+            double lng = longitude + distance / (KM_PER_DEGREE * Math.cos(Math.toRadians(latitude))) * Math.sin(bearing);
+            if (lng > 180) {
+                lng -= 360;
+            } else if (lng < -180) {
+                lng += 360;
+            }
+            final String hash = GeoHash.encode(lat, lng);
+            assertTrue(GeoHash.distanceKm(latitude, longitude, lat, lng) <= radiusKm);
+            assertTrue(cells.stream().anyMatch(hash::startsWith),
+                    () -> hash + " 가 " + cells + " 에 포함되지 않음 (" + lat + ", " + lng + ")");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package me.coldrain.ninetyminute.search;
+
+import me.coldrain.ninetyminute.dto.response.TeamNameSuggestionResponse;
+import me.coldrain.ninetyminute.entity.Team;
+import me.coldrain.ninetyminute.event.TeamChangedEvent;
+import me.coldrain.ninetyminute.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class TeamNameTrieTest {
+
+    private final TeamNameTrie trie = new TeamNameTrie(mock(TeamRepository.class));
+
+    @BeforeEach
+    void setUp() {
+        trie.onTeamChanged(changed(1L, "Ninety"));
+        trie.onTeamChanged(changed(2L, "nine"));
+        trie.onTeamChanged(changed(3L, "Ninja"));
+        trie.onTeamChanged(changed(4L, "other"));
+    }
+
+    @Test
+    void shorterNamesComeFirstIgnoringCase() {
+        final List<TeamNameSuggestionResponse> suggestions = trie.suggest("NIN", 10);
+
+        assertEquals(List.of(2L, 3L, 1L), teamIds(suggestions));
+        assertEquals("Ninety", suggestions.get(2).getTeamName());
+    }
+
+    @Test
+    void stopsAtRequestedSize() {
+        assertEquals(List.of(2L, 3L), teamIds(trie.suggest("nin", 2)));
+        assertTrue(trie.suggest("nin", 0).isEmpty());
+        assertTrue(trie.suggest(" ", 10).isEmpty());
+        assertTrue(trie.suggest("xyz", 10).isEmpty());
+    }
+
+    @Test
+    void renamedAndDisbandedTeamsAreReplaced() {
+        trie.onTeamChanged(changed(2L, "other nine"));
+        trie.onTeamChanged(TeamChangedEvent.disbanded(3L));
+
+        assertEquals(List.of(1L), teamIds(trie.suggest("nin", 10)));
+        assertEquals(List.of(4L, 2L), teamIds(trie.suggest("oth", 10)));
+    }
+
+    @Test
+    void sameNameIsSuggestedForEveryTeam() {
+        trie.onTeamChanged(changed(5L, "nine"));
+
+        assertEquals(List.of(2L, 5L), teamIds(trie.suggest("nine", 2)));
+    }
+
+    private TeamChangedEvent changed(Long teamId, String name) {
+        final Team team = Team.builder().name(name).mainArea("서울").build();
+        ReflectionTestUtils.setField(team, "id", teamId);
+        return TeamChangedEvent.of(team);
+    }
+
+    private List<Long> teamIds(List<TeamNameSuggestionResponse> suggestions) {
+        return suggestions.stream()
+                .map(TeamNameSuggestionResponse::getTeamId)
+                .collect(Collectors.toList());
+    }
+}
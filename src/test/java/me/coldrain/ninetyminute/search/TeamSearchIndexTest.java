@@ -0,0 +1,143 @@
+package me.coldrain.ninetyminute.search;
+
+import me.coldrain.ninetyminute.dto.TeamListCursor;
+import me.coldrain.ninetyminute.dto.TeamListSearchCondition;
+import me.coldrain.ninetyminute.entity.Availability;
+import me.coldrain.ninetyminute.entity.Record;
+import me.coldrain.ninetyminute.entity.Team;
+import me.coldrain.ninetyminute.event.TeamChangedEvent;
+import me.coldrain.ninetyminute.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TeamSearchIndexTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2022, 7, 1, 12, 0);
+
+    private final TeamRepository teamRepository = mock(TeamRepository.class);
+    private final TeamSearchIndex index = new TeamSearchIndex(teamRepository);
+
+    @BeforeEach
+    void setUp() {
+        given(teamRepository.findAllWithRecord()).willReturn(List.of());
+        index.load();
+        index.onTeamChanged(changed(1L, "서울 FC", "서울 강남구", true, 50.0, List.of("SAT")));
+        index.onTeamChanged(changed(2L, "강남 유나이티드", "서울 강남구", false, 80.0, List.of("SUN")));
+        index.onTeamChanged(changed(3L, "부산 FC", "부산 해운대구", true, 80.0, List.of("SAT", "SUN")));
+        index.onTeamChanged(changed(4L, "FC 서울", "서울 마포구", false, 20.0, List.of("MON")));
+    }
+
+    @Test
+    void relevanceOrdersExactThenPrefixThenShorterName() {
+        index.onTeamChanged(changed(5L, "FC", "인천", false, 0.0, List.of()));
+
+        assertEquals(List.of(5L, 4L, 1L, 3L), search(relevance("FC"), null, 10).getTeamIds());
+
+        final TeamSearchIndex.SearchPage first = search(relevance("fc"), null, 2);
+        assertEquals(List.of(5L, 4L), first.getTeamIds());
+        assertTrue(first.isHasNext());
+        assertEquals(List.of(1L, 3L), index.search(relevance("fc"), TeamListCursor.SORT_LATEST, null, PageRequest.of(1, 2)).getTeamIds());
+    }
+
+    @Test
+    void appliesListSortAndFilters() {
+        final TeamListSearchCondition byName = condition("fc", null);
+        assertEquals(List.of(4L, 3L, 1L), search(byName, null, 10).getTeamIds());
+        assertEquals(List.of(3L, 1L, 4L), index.search(byName, TeamListCursor.SORT_WIN_RATE_DESC, null, PageRequest.of(0, 10)).getTeamIds());
+
+        final TeamListSearchCondition recruiting = condition("fc", "서울");
+        recruiting.setRecruit(true);
+        assertEquals(List.of(1L), search(recruiting, null, 10).getTeamIds());
+
+        final TeamListSearchCondition sunday = condition(null, "서울");
+        sunday.setWeekdays(List.of("SUN"));
+        assertEquals(List.of(2L), search(sunday, null, 10).getTeamIds());
+    }
+
+    @Test
+    void cursorContinuesAfterLastRow() {
+        final TeamListSearchCondition byArea = condition(null, "서울");
+        final TeamSearchIndex.SearchPage first = search(byArea, null, 2);
+        assertEquals(List.of(4L, 2L), first.getTeamIds());
+        assertTrue(first.isHasNext());
+
+        final TeamListCursor cursor = new TeamListCursor(TeamListCursor.SORT_LATEST, null, CREATED.plusDays(2), 2L);
+        final TeamSearchIndex.SearchPage second = search(byArea, cursor, 2);
+        assertEquals(List.of(1L), second.getTeamIds());
+        assertFalse(second.isHasNext());
+    }
+
+    // 2-gram 이 모두 있어도 이어져 있지 않으면 결과가 아니다
+    @Test
+    void bigramCandidatesAreVerified() {
+        index.onTeamChanged(changed(6L, "abxbc", "서울", false, 0.0, List.of()));
+
+        assertTrue(search(condition("abc", null), null, 10).getTeamIds().isEmpty());
+        assertEquals(List.of(6L), search(condition("xbc", null), null, 10).getTeamIds());
+    }
+
+    @Test
+    void leavesShortQueriesAndUnknownValuesToDatabase() {
+        assertNull(search(condition("울", null), null, 10));
+        assertNull(search(condition("fc", "서"), null, 10));
+        assertNull(search(condition(null, null), null, 10));
+
+        final TeamListSearchCondition unknownWeekday = condition("fc", null);
+        unknownWeekday.setWeekdays(List.of("HOLIDAY"));
+        assertNull(search(unknownWeekday, null, 10));
+
+        assertNull(new TeamSearchIndex(teamRepository).search(condition("fc", null), TeamListCursor.SORT_LATEST, null, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void renamedAndDisbandedTeamsAreReplaced() {
+        index.onTeamChanged(changed(1L, "강남 FC", "서울 강남구", true, 50.0, List.of("SAT")));
+        index.onTeamChanged(TeamChangedEvent.disbanded(3L));
+
+        assertEquals(List.of(4L, 1L), search(relevance("fc"), null, 10).getTeamIds());
+        assertEquals(List.of(4L), search(condition("서울", null), null, 10).getTeamIds());
+    }
+
+    private TeamSearchIndex.SearchPage search(TeamListSearchCondition condition, TeamListCursor cursor, int size) {
+        return index.search(condition, TeamListCursor.SORT_LATEST, cursor, PageRequest.of(0, size));
+    }
+
+    private TeamListSearchCondition condition(String input, String address) {
+        final TeamListSearchCondition condition = new TeamListSearchCondition();
+        condition.setInput(input);
+        condition.setAddress(address);
+        return condition;
+    }
+
+    private TeamListSearchCondition relevance(String input) {
+        final TeamListSearchCondition condition = condition(input, null);
+        condition.setRelevance(true);
+        return condition;
+    }
+
+    // 팀 id 가 클수록 나중에 만든 팀
+    private TeamChangedEvent changed(Long teamId, String name, String mainArea, boolean recruit, double winRate, List<String> weekdays) {
+        final Record record = new Record();
+        record.updateWinRate(winRate);
+        final Team team = Team.builder()
+                .name(name)
+                .mainArea(mainArea)
+                .recruit(recruit)
+                .match(false)
+                .record(record)
+                .build();
+        team.updateAvailability(Availability.encode(weekdays, List.of()));
+        ReflectionTestUtils.setField(team, "id", teamId);
+        ReflectionTestUtils.setField(team, "createdDate", CREATED.plusDays(teamId));
+        return TeamChangedEvent.of(team);
+    }
+}
@@ -0,0 +1,70 @@
+package me.coldrain.ninetyminute.service;
+
+import me.coldrain.ninetyminute.config.ApplicationConfig;
+import me.coldrain.ninetyminute.entity.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 같은 참여 신청을 두 번 승인해도 승인된 팀원 수는 한 번만 오르는지 확인한다.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import({ParticipationService.class, ApplicationConfig.class})
+class ParticipationServiceApproveTest {
+
+    @Autowired
+    private ParticipationService participationService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Team team;
+    private Member captain;
+    private Member applicant;
+
+    @BeforeEach
+    void setUp() {
+        final Record record = em.persist(new Record());
+        team = em.persist(Team.builder()
+                .name("ninety")
+                .mainArea("서울")
+                .recruit(true)
+                .match(false)
+                .record(record)
+                .build());
+        captain = new Member("captain@test.com", "password", MemberRoleEnum.USER, null);
+        captain.setOpenTeam(team);
+        em.persist(captain);
+        applicant = em.persist(new Member("applicant@test.com", "password", MemberRoleEnum.USER, null));
+        em.persist(Participation.builder()
+                .member(applicant)
+                .team(team)
+                .approved(false)
+                .answer("참여합니다")
+                .build());
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void approvingTwiceCountsOnce() {
+        participationService.approve(team.getId(), applicant.getId(), captain);
+        // 두 번째 요청은 영속성 컨텍스트의 승인 전 상태를 읽으므로 조건부 UPDATE 가 막아야 한다
+        assertThrows(IllegalArgumentException.class,
+                () -> participationService.approve(team.getId(), applicant.getId(), captain));
+        em.flush();
+        em.clear();
+
+        assertEquals(1, em.find(Team.class, team.getId()).getApprovedMemberCount());
+        assertEquals(true, em.getEntityManager()
+                .createQuery("select p.approved from Participation p where p.member.id = :memberId", Boolean.class)
+                .setParameter("memberId", applicant.getId())
+                .getSingleResult());
+    }
+}
@@ -0,0 +1,75 @@
+package me.coldrain.ninetyminute.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.coldrain.ninetyminute.dto.response.RankerMemberResponse;
+import me.coldrain.ninetyminute.dto.response.RankerTeamResponse;
+import me.coldrain.ninetyminute.entity.RankSnapshot;
+import me.coldrain.ninetyminute.rank.MemberLeaderboard;
+import me.coldrain.ninetyminute.rank.RankDimension;
+import me.coldrain.ninetyminute.rank.TeamLeaderboard;
+import me.coldrain.ninetyminute.repository.RankSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class RankSnapshotServiceTest {
+
+    private final RankSnapshotRepository rankSnapshotRepository = mock(RankSnapshotRepository.class);
+    private final TeamLeaderboard teamLeaderboard = mock(TeamLeaderboard.class);
+    private final MemberLeaderboard memberLeaderboard = mock(MemberLeaderboard.class);
+    private final RankSnapshotService service =
+            new RankSnapshotService(rankSnapshotRepository, teamLeaderboard, memberLeaderboard, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "snapshotSize", 10);
+        given(rankSnapshotRepository.lockLastGeneration()).willReturn(4L);
+    }
+
+    @Test
+    void refreshBuildsEveryCategoryFromLeaderboardsAndServesIt() {
+        given(teamLeaderboard.isLoaded()).willReturn(true);
+        given(memberLeaderboard.isLoaded()).willReturn(true);
+        given(teamLeaderboard.top(10)).willReturn(List.of(new RankerTeamResponse(1L, null, "ninety", 30, 1)));
+        given(memberLeaderboard.top(any(), eq(10))).willReturn(List.of());
+        given(memberLeaderboard.top(RankDimension.STRIKER, 10))
+                .willReturn(List.of(new RankerMemberResponse(7L, null, "kim", "striker", 3, 12, 1)));
+
+        service.refresh();
+
+        verify(rankSnapshotRepository).updateLastGeneration(5L);
+        verify(rankSnapshotRepository).deleteOlderThan(5L);
+        assertEquals(List.of(1L), teamIds(service.findTeamRankers().orElseThrow()));
+        assertEquals(12, service.findMemberRankers(RankDimension.STRIKER).orElseThrow().get(0).getAbilityPoint());
+        assertTrue(service.findMemberRankers(RankDimension.MVP).orElseThrow().isEmpty());
+        assertEquals(5L, service.snapshotStatus().getGeneration());
+        // 갱신 사이의 조회는 DB 를 읽지 않는다
+        verify(rankSnapshotRepository, never()).findLatest();
+    }
+
+    @Test
+    void beforeRefreshLatestGenerationIsReadOnce() {
+        given(rankSnapshotRepository.findLatest()).willReturn(List.of(
+                RankSnapshot.builder().generation(3L).category("team").subjectId(2L).name("saved").point(9).ranking(1).build(),
+                RankSnapshot.builder().generation(3L).category("mvp").subjectId(8L).name("lee").mvpPoint(4).point(4).ranking(1).build()));
+
+        service.refresh();    // 리더보드 적재 전에는 갱신하지 않는다
+
+        assertEquals(List.of(2L), teamIds(service.findTeamRankers().orElseThrow()));
+        assertEquals(8L, service.findMemberRankers(RankDimension.MVP).orElseThrow().get(0).getMemberId());
+        assertEquals(3L, service.snapshotStatus().getGeneration());
+        verify(rankSnapshotRepository, times(1)).findLatest();
+        verify(rankSnapshotRepository, never()).saveAll(anyList());
+    }
+
+    private List<Long> teamIds(List<RankerTeamResponse> rankers) {
+        return rankers.stream().map(RankerTeamResponse::getTeamId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,127 @@
+package me.coldrain.ninetyminute.service;
+
+import me.coldrain.ninetyminute.cache.TeamDetailCache;
+import me.coldrain.ninetyminute.cache.TeamListCache;
+import me.coldrain.ninetyminute.config.ApplicationConfig;
+import me.coldrain.ninetyminute.dto.request.TeamModifyRequest;
+import me.coldrain.ninetyminute.entity.*;
+import me.coldrain.ninetyminute.repository.*;
+import me.coldrain.ninetyminute.search.TeamNameTrie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 팀 수정 후 요일/시간대 행이 실제로 저장되는지, 개설자만 수정할 수 있는지 확인한다.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import({TeamService.class, ApplicationConfig.class})
+class TeamServiceModifyTeamTest {
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private WeekdayRepository weekdayRepository;
+
+    @Autowired
+    private TimeRepository timeRepository;
+
+    @MockBean
+    private TeamQueryRepository teamQueryRepository;
+
+    @MockBean
+    private AwsS3Service awsS3Service;
+
+    @MockBean
+    private TeamListCache teamListCache;
+
+    @MockBean
+    private TeamDetailCache teamDetailCache;
+
+    @MockBean
+    private TeamNameTrie teamNameTrie;
+
+    private Team team;
+    private Member captain;
+
+    @BeforeEach
+    void setUp() {
+        final Record record = em.persist(new Record());
+        team = em.persist(Team.builder()
+                .name("ninety")
+                .mainArea("서울")
+                .recruit(false)
+                .match(false)
+                .record(record)
+                .build());
+        em.persist(new Weekday("MON", team));
+        em.persist(new Time("am", team));
+
+        captain = new Member("captain@test.com", "password", MemberRoleEnum.USER, null);
+        captain.setOpenTeam(team);
+        em.persist(captain);
+        em.flush();
+        em.clear();
+
+        given(awsS3Service.uploadFile(any())).willReturn(Map.of("url", "https://image/new.png"));
+    }
+
+    @Test
+    void weekdaysAndTimesSurviveModify() {
+        teamService.modifyTeam(team.getId(), request(List.of("SAT", "SUN"), List.of("pm")), captain.getId());
+        em.flush();
+        em.clear();
+
+        final List<String> weekdays = weekdayRepository.findAllByTeamId(team.getId()).stream()
+                .map(Weekday::getWeekday)
+                .sorted()
+                .collect(Collectors.toList());
+        final List<String> times = timeRepository.findAllByTeamId(team.getId()).stream()
+                .map(Time::getTime)
+                .collect(Collectors.toList());
+        assertEquals(List.of("SAT", "SUN"), weekdays);
+        assertEquals(List.of("pm"), times);
+
+        final Team modified = em.find(Team.class, team.getId());
+        assertEquals(Availability.encode(weekdays, times), modified.getAvailability());
+        assertEquals("https://image/new.png", modified.getTeamProfileUrl());
+    }
+
+    @Test
+    void onlyCaptainCanModify() {
+        final Member other = em.persist(new Member("other@test.com", "password", MemberRoleEnum.USER, null));
+        em.flush();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> teamService.modifyTeam(team.getId(), request(List.of("SAT"), List.of("pm")), other.getId()));
+        assertEquals(List.of("MON"), weekdayRepository.findAllByTeamId(team.getId()).stream()
+                .map(Weekday::getWeekday)
+                .collect(Collectors.toList()));
+    }
+
+    private TeamModifyRequest request(List<String> weekdays, List<String> time) {
+        return TeamModifyRequest.builder()
+                .introduce("수정된 소개")
+                .mainArea("서울")
+                .preferredArea("강남")
+                .weekdays(weekdays)
+                .time(time)
+                .build();
+    }
+}